@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Lays out the fast-start build for class-data sharing, records a CDS archive from a training run and
+# reports time-to-first-request for the plain jar and the fast-start layout with and without CDS.
+#
+# usage: scripts/fast-start.sh target/portfolio-backend-<version>.jar
+# Produces target/fast-start/{app.jar,lib/,app.jsa,run.sh,startup-report.txt}.
+# Extra arguments for every run (e.g. a datasource) can be passed in FAST_START_ARGS.
+set -euo pipefail
+
+JAR=$(cd "$(dirname "$1")" && pwd)/$(basename "$1")
+OUT=$(dirname "$JAR")/fast-start
+PORT=${FAST_START_PORT:-18080}
+RUNS=${FAST_START_RUNS:-3}
+URL="http://localhost:$PORT/api/public/portfolio"
+COMMON=(--server.port="$PORT" --management.server.port=0 ${FAST_START_ARGS:-})
+
+# CDS only archives classes loaded from plain jars on the class path, not from inside a fat jar
+rm -rf "$OUT"
+mkdir -p "$OUT/lib"
+cp "$JAR.original" "$OUT/app.jar"
+(cd "$OUT/lib" && unzip -q -j "$JAR" 'BOOT-INF/lib/*.jar')
+CLASSPATH="app.jar$(cd "$OUT" && find lib -name '*.jar' | LC_ALL=C sort | sed 's/^/:/' | tr -d '\n')"
+FAST_START=(-Dspring.aot.enabled=true -cp "$CLASSPATH" com.portfolio.PortfolioApplication
+            --spring.profiles.active="${FAST_START_PROFILES:-fast-start}")
+
+cat > "$OUT/run.sh" <<RUN
+#!/usr/bin/env bash
+# Starts the fast-start build; must run from this directory for the CDS archive to match
+cd "\$(dirname "\$0")"
+exec java -XX:SharedArchiveFile=app.jsa \${JAVA_OPTS:-} ${FAST_START[*]} "\$@"
+RUN
+chmod +x "$OUT/run.sh"
+
+# Prints milliseconds from launch until the first successful request, then stops the app
+time_to_first_request() {
+    local start end pid
+    start=$(date +%s%N)
+    (cd "$OUT" && exec java "$@" "${COMMON[@]}") > "$OUT/last-run.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited before serving a request, see $OUT/last-run.log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    end=$(date +%s%N)
+    kill "$pid" && wait "$pid" || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+median() {
+    printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+measure() {
+    local label=$1 times=() i
+    shift
+    for ((i = 0; i < RUNS; i++)); do
+        times+=("$(time_to_first_request "$@")")
+    done
+    printf '%-28s %6s ms   (runs: %s)\n' "$label" "$(median "${times[@]}")" "${times[*]}"
+}
+
+# Training run: the archive is written when the JVM exits after serving a request
+time_to_first_request -XX:ArchiveClassesAtExit=app.jsa "${FAST_START[@]}" > /dev/null
+
+{
+    echo "Time to first request (median of $RUNS), GET $URL"
+    measure "java -jar" -jar "$JAR"
+    measure "fast-start (AOT, lazy)" "${FAST_START[@]}"
+    measure "fast-start + CDS" -XX:SharedArchiveFile=app.jsa "${FAST_START[@]}"
+} | tee "$OUT/startup-report.txt"
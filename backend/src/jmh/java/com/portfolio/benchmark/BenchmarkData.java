@@ -0,0 +1,74 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.model.Experience;
+import com.portfolio.model.Project;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic content of realistic size, shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String[] TECHNOLOGIES = {
+            "Java", "Spring Boot", "React", "PostgreSQL", "Redis", "Kafka", "Docker", "Kubernetes", "TypeScript", "Go"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static List<Project> projects(int count, boolean withIds) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            if (withIds) {
+                project.setId((long) i + 1);
+                project.setVersion(0L);
+                project.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusHours(i));
+                project.setUpdatedAt(project.getCreatedAt());
+            }
+            project.setTitle("Project " + i);
+            project.setShortDescription("Short description of project " + i + " and what it does");
+            project.setDescription(("Project " + i + " is a service built to exercise serialization with a "
+                    + "paragraph of text of the length a real portfolio entry has. ").repeat(4));
+            project.setTechnologies(technologies(i));
+            project.setImageUrl("https://example.com/images/" + i + ".png");
+            project.setGithubUrl("https://github.com/example/project-" + i);
+            project.setDemoUrl("https://example.com/demo/" + i);
+            project.setDisplayOrder(i);
+            project.setIsFeatured(i % 10 == 0);
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static List<Experience> experiences(int count, boolean withIds) {
+        List<Experience> experiences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Experience experience = new Experience();
+            if (withIds) {
+                experience.setId((long) i + 1);
+                experience.setVersion(0L);
+                experience.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusHours(i));
+                experience.setUpdatedAt(experience.getCreatedAt());
+            }
+            experience.setTitle("Engineer " + i);
+            experience.setCompany("Company " + i);
+            experience.setStartDate("2020");
+            experience.setEndDate("Present");
+            experience.setDescription(("Worked on system " + i + ", owning design, delivery and operations. ").repeat(3));
+            experience.setTechnologies(technologies(i));
+            experience.setCompanyUrl("https://example.com/company/" + i);
+            experience.setDisplayOrder(i);
+            experiences.add(experience);
+        }
+        return experiences;
+    }
+
+    private static String technologies(int seed) {
+        return String.join(", ", TECHNOLOGIES[seed % TECHNOLOGIES.length],
+                TECHNOLOGIES[(seed + 3) % TECHNOLOGIES.length], TECHNOLOGIES[(seed + 7) % TECHNOLOGIES.length]);
+    }
+}
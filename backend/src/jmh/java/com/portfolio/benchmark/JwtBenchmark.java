@@ -0,0 +1,63 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signature verification and claim extraction for a token issued by the application itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    static final String SECRET = "mySecretKeyForJWTTokenGenerationThisIsAVeryLongSecretKey123456789";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = newTokenProvider();
+        token = issueToken(tokenProvider, "admin");
+        tamperedToken = token.substring(0, token.length() - 4) + "AAAA";
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return tokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(token);
+    }
+
+    static JwtTokenProvider newTokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", TimeUnit.DAYS.toMillis(1));
+        provider.init();
+        return provider;
+    }
+
+    static String issueToken(JwtTokenProvider provider, String username) {
+        User user = new User(username, "unused", List.of());
+        return provider.generateToken(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
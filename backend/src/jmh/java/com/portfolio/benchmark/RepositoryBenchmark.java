@@ -0,0 +1,80 @@
+package com.portfolio.benchmark;
+
+import com.portfolio.PortfolioApplication;
+import com.portfolio.model.Experience;
+import com.portfolio.model.Project;
+import com.portfolio.repository.ExperienceRepository;
+import com.portfolio.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository queries against the in-memory H2 database, through the full Spring Data and Hibernate
+ * stack, with the table seeded to {@code rows} projects and experiences.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ProjectRepository projectRepository;
+    private ExperienceRepository experienceRepository;
+    private long projectId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PortfolioApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.portfolio=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        projectRepository = context.getBean(ProjectRepository.class);
+        experienceRepository = context.getBean(ExperienceRepository.class);
+
+        List<Project> saved = projectRepository.saveAll(BenchmarkData.projects(rows, false));
+        experienceRepository.saveAll(BenchmarkData.experiences(rows, false));
+        projectId = saved.get(saved.size() / 2).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Project> findAllProjectsOrdered() {
+        return projectRepository.findAllByOrderByDisplayOrderAsc();
+    }
+
+    @Benchmark
+    public List<Project> findFeaturedProjects() {
+        return projectRepository.findByIsFeaturedTrue();
+    }
+
+    @Benchmark
+    public Optional<Project> findProjectById() {
+        return projectRepository.findById(projectId);
+    }
+
+    @Benchmark
+    public List<Experience> findAllExperiencesOrdered() {
+        return experienceRepository.findAllByOrderByDisplayOrderAsc();
+    }
+}
@@ -0,0 +1,46 @@
+package com.portfolio.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.model.Experience;
+import com.portfolio.model.Project;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the public lists, with the same ObjectMapper defaults Spring Boot applies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Project> projects;
+    private List<Experience> experiences;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        projects = BenchmarkData.projects(size, true);
+        experiences = BenchmarkData.experiences(size, true);
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() throws Exception {
+        return objectMapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] serializeExperiences() throws Exception {
+        return objectMapper.writeValueAsBytes(experiences);
+    }
+}
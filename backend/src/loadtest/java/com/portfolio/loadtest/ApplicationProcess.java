@@ -0,0 +1,81 @@
+package com.portfolio.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The application under test in its own JVM, on the in-memory H2 database from application.properties.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Process process;
+
+    private ApplicationProcess(Process process) {
+        this.process = process;
+    }
+
+    static ApplicationProcess start(LoadTestConfig config) throws IOException, InterruptedException {
+        Files.createDirectories(config.output);
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = List.of(java, "-jar", config.jar.toString(),
+                "--server.port=" + config.port,
+                "--management.server.port=0",
+                // Request logging would dominate the measurement
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.portfolio=INFO",
+                "--logging.level.org.springframework.security=INFO",
+                // All load comes from one address and one user; let logins reach BCrypt
+                "--login.rate.ip.per-minute=1000000",
+                "--login.rate.ip.burst=1000000",
+                "--login.rate.username.per-minute=1000000",
+                "--login.rate.username.burst=1000000");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(config.output.resolve("application.log").toFile())
+                .start();
+        ApplicationProcess application = new ApplicationProcess(process);
+        try {
+            application.awaitReady(config.baseUrl());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    private void awaitReady(String baseUrl) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/public/portfolio")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Application exited with code " + process.exitValue()
+                        + ", see application.log");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(200);
+        }
+        throw new IOException("Application did not start within " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+}
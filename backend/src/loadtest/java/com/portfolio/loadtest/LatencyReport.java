@@ -0,0 +1,136 @@
+package com.portfolio.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms (microseconds) and error counts. Recording is lock-free; {@link #reset()}
+ * discards everything recorded so far, which is how the warmup is dropped.
+ */
+final class LatencyReport {
+
+    // Up to one minute at three significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> results = new EnumMap<>(Operation.class);
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos) {
+        recorders.get(operation).recordValue(Math.min(latencyNanos / 1000, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    void recordError(Operation operation) {
+        errors.get(operation).increment();
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    void finish() {
+        recorders.forEach((operation, recorder) -> results.put(operation, recorder.getIntervalHistogram()));
+    }
+
+    void print(PrintStream out, double seconds) {
+        out.printf("%-12s %9s %9s %7s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0 && errors.get(operation).sum() == 0) {
+                return;
+            }
+            out.printf("%-12s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.label(), histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    errors.get(operation).sum(), millis(histogram, 50), millis(histogram, 99),
+                    millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+        });
+    }
+
+    /**
+     * Writes results.json plus one HdrHistogram percentile distribution (.hgrm, in milliseconds) per operation.
+     */
+    void write(Path directory, double seconds, LoadTestConfig config) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, Histogram> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", histogram.getTotalCount());
+            summary.put("throughput", histogram.getTotalCount() / seconds);
+            summary.put("errors", errors.get(entry.getKey()).sum());
+            summary.put("p50", millis(histogram, 50));
+            summary.put("p99", millis(histogram, 99));
+            summary.put("p999", millis(histogram, 99.9));
+            summary.put("max", histogram.getMaxValue() / 1000.0);
+            operations.put(entry.getKey().label(), summary);
+            try (PrintStream out = new PrintStream(directory.resolve(entry.getKey().label() + ".hgrm").toFile())) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("projects", config.projects);
+        settings.put("experiences", config.experiences);
+        settings.put("concurrency", config.concurrency);
+        settings.put("rate", config.rate);
+        settings.put("durationSeconds", seconds);
+        settings.put("mix", config.mix.entrySet().stream()
+                .collect(LinkedHashMap::new, (map, e) -> map.put(e.getKey().label(), e.getValue()), Map::putAll));
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("settings", settings);
+        document.put("latencyUnit", "ms");
+        document.put("operations", operations);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("results.json").toFile(), document);
+    }
+
+    /**
+     * @return a description of each public-read gate that was exceeded
+     */
+    List<String> violations(double maxP99, double maxP999) {
+        List<String> violations = new ArrayList<>();
+        results.forEach((operation, histogram) -> {
+            if (!operation.isPublicRead() || histogram.getTotalCount() == 0) {
+                return;
+            }
+            if (maxP99 > 0 && millis(histogram, 99) > maxP99) {
+                violations.add(String.format("%s p99 %.2f ms > %.2f ms", operation.label(), millis(histogram, 99), maxP99));
+            }
+            if (maxP999 > 0 && millis(histogram, 99.9) > maxP999) {
+                violations.add(String.format("%s p99.9 %.2f ms > %.2f ms", operation.label(),
+                        millis(histogram, 99.9), maxP999));
+            }
+            if (errors.get(operation).sum() > 0) {
+                violations.add(operation.label() + " had " + errors.get(operation).sum() + " errors");
+            }
+        });
+        return violations;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,181 @@
+package com.portfolio.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeds content through the admin batch API and issues one request per workload operation.
+ */
+final class LoadClient {
+
+    static final String[] VOCABULARY = {
+            "java", "spring", "react", "postgres", "redis", "kafka", "docker", "kubernetes", "typescript", "go",
+            "payments", "search", "analytics", "streaming", "platform", "mobile", "cache", "gateway"
+    };
+
+    private static final String USERNAME = "admin";
+    private static final String PASSWORD = "admin123";
+    private static final int SEED_BATCH_SIZE = 200;
+
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String loginBody;
+
+    private String token;
+    private long[] projectIds = new long[0];
+    private long[] experienceIds = new long[0];
+
+    LoadClient(String baseUrl) throws IOException {
+        this.baseUrl = baseUrl;
+        this.loginBody = objectMapper.writeValueAsString(Map.of("username", USERNAME, "password", PASSWORD));
+    }
+
+    void seed(int projects, int experiences) throws IOException, InterruptedException {
+        token = login();
+        projectIds = createInBatches("/api/admin/projects:batch", projects, this::project);
+        experienceIds = createInBatches("/api/admin/experiences:batch", experiences, this::experience);
+    }
+
+    /**
+     * @return the HTTP status
+     */
+    int execute(Operation operation, Random random) throws IOException, InterruptedException {
+        HttpRequest request = switch (operation) {
+            case PORTFOLIO -> get("/api/public/portfolio");
+            case PROJECTS -> get("/api/public/projects");
+            case PROJECT -> get("/api/public/projects/" + pick(projectIds, random));
+            case PAGE -> get("/api/public/projects/page?limit=20&fields=id,title,shortDescription,technologies");
+            case SEARCH -> get("/api/public/search?q=" + URLEncoder.encode(searchQuery(random), StandardCharsets.UTF_8));
+            case EXPERIENCES -> get("/api/public/experiences");
+            case LOGIN -> post("/api/auth/login", "application/json", loginBody);
+            case PATCH -> patch(random);
+        };
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest patch(Random random) throws IOException {
+        boolean project = experienceIds.length == 0 || random.nextInt(4) != 0;
+        String path = project ? "/api/admin/projects/" + pick(projectIds, random)
+                : "/api/admin/experiences/" + pick(experienceIds, random);
+        String body = objectMapper.writeValueAsString(Map.of("title", "Updated " + random.nextInt(1_000_000)));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/merge-patch+json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String contentType, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null && path.startsWith("/api/admin")) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private String login() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(post("/api/auth/login", "application/json", loginBody),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Login failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private long[] createInBatches(String path, int count, ItemFactory factory)
+            throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(count);
+        for (int start = 0; start < count; start += SEED_BATCH_SIZE) {
+            List<Map<String, Object>> operations = new ArrayList<>();
+            for (int i = start; i < Math.min(count, start + SEED_BATCH_SIZE); i++) {
+                operations.add(Map.of("op", "create", "data", factory.create(i)));
+            }
+            HttpResponse<String> response = client.send(
+                    post(path, "application/json", objectMapper.writeValueAsString(operations)),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("Seeding " + path + " failed with " + response.statusCode()
+                        + ": " + response.body());
+            }
+            for (JsonNode id : objectMapper.readTree(response.body()).get("ids")) {
+                ids.add(id.asLong());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Map<String, Object> project(int i) {
+        Map<String, Object> project = new LinkedHashMap<>();
+        project.put("title", "Load project " + i + " " + word(i));
+        project.put("shortDescription", "A " + word(i + 1) + " service using " + word(i + 2));
+        project.put("description", ("Load test project " + i + " covering " + word(i) + ", " + word(i + 3)
+                + " and " + word(i + 5) + " with enough text to resemble a real write-up. ").repeat(3));
+        project.put("technologies", word(i) + ", " + word(i + 4) + ", " + word(i + 7));
+        project.put("githubUrl", "https://github.com/example/load-" + i);
+        project.put("displayOrder", 1000 + i);
+        project.put("isFeatured", i % 25 == 0);
+        return project;
+    }
+
+    private Map<String, Object> experience(int i) {
+        Map<String, Object> experience = new LinkedHashMap<>();
+        experience.put("title", "Engineer " + i);
+        experience.put("company", "Company " + word(i));
+        experience.put("startDate", "2020");
+        experience.put("endDate", "Present");
+        experience.put("description", ("Built " + word(i) + " and " + word(i + 2) + " systems. ").repeat(4));
+        experience.put("technologies", word(i + 1) + ", " + word(i + 6));
+        experience.put("displayOrder", 1000 + i);
+        return experience;
+    }
+
+    private static String searchQuery(Random random) {
+        String first = VOCABULARY[random.nextInt(VOCABULARY.length)];
+        if (random.nextBoolean()) {
+            return first;
+        }
+        // Ending in a partial word, as typed into a search box
+        String second = VOCABULARY[random.nextInt(VOCABULARY.length)];
+        return first + " " + second.substring(0, Math.min(3, second.length()));
+    }
+
+    private static String word(int i) {
+        return VOCABULARY[Math.floorMod(i, VOCABULARY.length)];
+    }
+
+    private static long pick(long[] ids, Random random) {
+        return ids.length == 0 ? 1 : ids[random.nextInt(ids.length)];
+    }
+
+    @FunctionalInterface
+    private interface ItemFactory {
+        Map<String, Object> create(int index);
+    }
+}
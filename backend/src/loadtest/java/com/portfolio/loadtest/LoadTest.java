@@ -0,0 +1,132 @@
+package com.portfolio.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: starts the packaged application on in-memory H2, seeds it through the admin API,
+ * drives a weighted mix of public reads, logins and admin writes, and reports per-operation throughput and
+ * latency percentiles. Run with {@code mvn -Ploadtest verify}; see LoadTestConfig for the options.
+ *
+ * <p>With {@code --rate} each request is timed from when it was scheduled to start rather than when it was
+ * sent, so a stalled server shows up in the tail instead of silently lowering the offered load.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ApplicationProcess application = config.baseUrl == null ? ApplicationProcess.start(config) : null;
+        int exitCode;
+        try {
+            exitCode = run(config);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(LoadTestConfig config) throws Exception {
+        LoadClient client = new LoadClient(config.baseUrl());
+        System.out.printf("Seeding %d projects and %d experiences%n", config.projects, config.experiences);
+        client.seed(config.projects, config.experiences);
+
+        Operation[] schedule = weightedSchedule(config.mix);
+        LatencyReport report = new LatencyReport();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup.toNanos();
+        long end = measureFrom + config.duration.toNanos();
+        // Per worker, in nanoseconds between requests
+        long interval = config.rate > 0 ? TimeUnit.SECONDS.toNanos(config.concurrency) / config.rate : 0;
+
+        System.out.printf("Running %ds warmup and %ds measurement with %d workers%s%n",
+                config.warmup.toSeconds(), config.duration.toSeconds(), config.concurrency,
+                config.rate > 0 ? " at " + config.rate + " req/s" : ", closed loop");
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < config.concurrency; w++) {
+            long seed = w;
+            // Stagger open-model workers so their requests do not arrive in lockstep
+            long firstAt = start + (interval * w) / config.concurrency;
+            futures.add(workers.submit(() -> {
+                work(client, schedule, new Random(seed), report, firstAt, interval, end);
+                return null;
+            }));
+        }
+        LockSupport.parkNanos(measureFrom - System.nanoTime());
+        report.reset();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+        report.finish();
+
+        double seconds = config.duration.toNanos() / 1e9;
+        report.print(System.out, seconds);
+        report.write(config.output, seconds, config);
+        System.out.println("Results written to " + config.output.toAbsolutePath());
+
+        if (config.maxP99 > 0 || config.maxP999 > 0) {
+            List<String> violations = report.violations(config.maxP99, config.maxP999);
+            if (!violations.isEmpty()) {
+                violations.forEach(violation -> System.out.println("GATE FAILED: " + violation));
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private static void work(LoadClient client, Operation[] schedule, Random random, LatencyReport report,
+                             long firstAt, long interval, long end) throws InterruptedException {
+        long intended = firstAt;
+        while (true) {
+            if (interval > 0) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            long sent = System.nanoTime();
+            if (sent >= end) {
+                return;
+            }
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            try {
+                int status = client.execute(operation, random);
+                long finished = System.nanoTime();
+                report.record(operation, finished - (interval > 0 ? intended : sent));
+                if (status >= 400) {
+                    report.recordError(operation);
+                }
+            } catch (IOException e) {
+                report.recordError(operation);
+            }
+            intended += interval;
+        }
+    }
+
+    private static Operation[] weightedSchedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("The workload mix is empty");
+        }
+        return schedule.toArray(new Operation[0]);
+    }
+}
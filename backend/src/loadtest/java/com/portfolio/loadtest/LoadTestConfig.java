@@ -0,0 +1,80 @@
+package com.portfolio.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code --key=value} arguments.
+ */
+final class LoadTestConfig {
+
+    static final String DEFAULT_MIX =
+            "portfolio=30,projects=10,project=15,page=10,search=15,experiences=5,login=5,patch=10";
+
+    // Application jar to start; ignored when baseUrl points at an instance that is already running
+    Path jar;
+    String baseUrl;
+    int port = 18081;
+    int projects = 2000;
+    int experiences = 500;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(60);
+    int concurrency = 32;
+    // Requests per second across all workers; 0 runs closed-loop as fast as responses allow
+    int rate;
+    Map<Operation, Integer> mix = parseMix(DEFAULT_MIX);
+    Path output = Path.of("target", "loadtest");
+    // Release gates on public reads, in milliseconds; 0 disables
+    double maxP99;
+    double maxP999;
+
+    static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            String key = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (key) {
+                case "jar" -> config.jar = Path.of(value);
+                case "base-url" -> config.baseUrl = value.isBlank() ? null : value;
+                case "port" -> config.port = Integer.parseInt(value);
+                case "projects" -> config.projects = Integer.parseInt(value);
+                case "experiences" -> config.experiences = Integer.parseInt(value);
+                case "warmup" -> config.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> config.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "concurrency" -> config.concurrency = Integer.parseInt(value);
+                case "rate" -> config.rate = Integer.parseInt(value);
+                case "mix" -> config.mix = parseMix(value);
+                case "output" -> config.output = Path.of(value);
+                case "max-p99" -> config.maxP99 = Double.parseDouble(value);
+                case "max-p999" -> config.maxP999 = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + key);
+            }
+        }
+        if (config.baseUrl == null && config.jar == null) {
+            throw new IllegalArgumentException("Either --jar or --base-url is required");
+        }
+        return config;
+    }
+
+    String baseUrl() {
+        return baseUrl != null ? baseUrl : "http://localhost:" + port;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Request types in the workload mix; public reads are the ones subject to the latency gates.
+ */
+enum Operation {
+    PORTFOLIO("portfolio", true),
+    PROJECTS("projects", true),
+    PROJECT("project", true),
+    PAGE("page", true),
+    SEARCH("search", true),
+    EXPERIENCES("experiences", true),
+    LOGIN("login", false),
+    PATCH("patch", false);
+
+    private final String label;
+    private final boolean publicRead;
+
+    Operation(String label, boolean publicRead) {
+        this.label = label;
+        this.publicRead = publicRead;
+    }
+
+    String label() {
+        return label;
+    }
+
+    boolean isPublicRead() {
+        return publicRead;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.label.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in mix: " + name));
+    }
+}
@@ -0,0 +1,65 @@
+package com.portfolio.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Offline compressors for pre-rendered bodies. Brotli is used only when brotli4j is on the classpath.
+ */
+final class Compressors {
+
+    private static final Logger logger = LoggerFactory.getLogger(Compressors.class);
+
+    private static final Method BROTLI_COMPRESS = findBrotli();
+
+    private Compressors() {
+    }
+
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] brotli(byte[] body) {
+        if (BROTLI_COMPRESS == null) {
+            return null;
+        }
+        try {
+            return (byte[]) BROTLI_COMPRESS.invoke(null, (Object) body);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Brotli compression failed, serving gzip only", e);
+            return null;
+        }
+    }
+
+    private static Method findBrotli() {
+        try {
+            Class.forName("com.aayushatharva.brotli4j.Brotli4jLoader")
+                    .getMethod("ensureAvailability")
+                    .invoke(null);
+            return Class.forName("com.aayushatharva.brotli4j.encoder.Encoder")
+                    .getMethod("compress", byte[].class);
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.info("brotli4j present but not usable on this platform: {}", e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.cache;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published by the write side of a service; an empty id set means the whole section changed.
+ */
+@Getter
+public class ContentChangedEvent {
+
+    private final ContentSection section;
+    private final Set<Long> ids;
+
+    public ContentChangedEvent(ContentSection section, Collection<Long> ids) {
+        this.section = section;
+        this.ids = ids == null ? Set.of() : Set.copyOf(ids);
+    }
+
+    public static ContentChangedEvent of(ContentSection section, Long id) {
+        return new ContentChangedEvent(section, id == null ? Set.of() : Set.of(id));
+    }
+
+    public static ContentChangedEvent all(ContentSection section) {
+        return new ContentChangedEvent(section, Set.of());
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.cache;
+
+import lombok.Getter;
+
+@Getter
+public enum ContentEncoding {
+    BROTLI("br"),
+    GZIP("gzip"),
+    IDENTITY("identity");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+}
@@ -0,0 +1,7 @@
+package com.portfolio.cache;
+
+public enum ContentSection {
+    PROJECTS,
+    EXPERIENCES,
+    PERSONAL_INFO
+}
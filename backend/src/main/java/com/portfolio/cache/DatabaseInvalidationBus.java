@@ -0,0 +1,179 @@
+package com.portfolio.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Broadcasts changes through the shared database: the writer inserts a cache_invalidations row in its own
+ * transaction, and every instance polls for rows from the others and refreshes those sections. Works the
+ * same on Postgres and H2, and a change is never announced for a write that rolled back.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "database", matchIfMissing = true)
+public class DatabaseInvalidationBus implements InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseInvalidationBus.class);
+
+    private static final String INSERT_SQL = "insert into cache_invalidations "
+            + "(node_id, section, entity_ids, created_at) values (?, ?, ?, ?)";
+    private static final String SELECT_SQL = "select id, node_id, section, entity_ids from cache_invalidations "
+            + "where id > ? order by id";
+    private static final String DELETE_SQL = "delete from cache_invalidations where created_at < ?";
+
+    // Column length; longer id lists are sent as a change to the whole section
+    private static final int MAX_ENTITY_IDS_LENGTH = 2000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long pollInterval;
+    private final long gapTimeout;
+    private final long retention;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Poller thread only. Every id up to the watermark has been handled; ids above it that were already
+    // seen wait in the set until the gap below them closes
+    private long watermark;
+    private final TreeSet<Long> seen = new TreeSet<>();
+    private long gapSince;
+    private long lastPrune;
+
+    public DatabaseInvalidationBus(@Value("${cache.invalidation.poll-interval:1000}") long pollInterval,
+                                   @Value("${cache.invalidation.gap-timeout:10000}") long gapTimeout,
+                                   @Value("${cache.invalidation.retention:3600000}") long retention) {
+        this.pollInterval = pollInterval;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    // Before the snapshot is first built, so no change committed after that build can be skipped
+    @PostConstruct
+    public void start() {
+        Long max = jdbcTemplate.queryForObject("select max(id) from cache_invalidations", Long.class);
+        watermark = max == null ? 0 : max;
+        lastPrune = System.currentTimeMillis();
+        poller.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        logger.info("Polling cache_invalidations every {} ms as node {}", pollInterval, nodeId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    @Override
+    public void publish(ContentSection section, Set<Long> ids) {
+        String entityIds = ids.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        if (entityIds.length() > MAX_ENTITY_IDS_LENGTH) {
+            entityIds = "";
+        }
+        jdbcTemplate.update(INSERT_SQL, nodeId, section.name(), entityIds, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    void poll() {
+        try {
+            List<Invalidation> invalidations = jdbcTemplate.query(SELECT_SQL, (rs, row) -> new Invalidation(
+                    rs.getLong("id"), rs.getString("node_id"), rs.getString("section"), rs.getString("entity_ids")),
+                    watermark);
+            for (Invalidation invalidation : invalidations) {
+                if (seen.add(invalidation.id()) && !nodeId.equals(invalidation.nodeId())) {
+                    receive(invalidation);
+                }
+            }
+            advanceWatermark();
+            prune();
+        } catch (RuntimeException e) {
+            logger.warn("Could not poll cache_invalidations, retrying next interval", e);
+        }
+    }
+
+    private void receive(Invalidation invalidation) {
+        ContentSection section;
+        try {
+            section = ContentSection.valueOf(invalidation.section());
+        } catch (IllegalArgumentException e) {
+            // Written by a newer version of the backend
+            logger.warn("Ignoring invalidation of unknown section {}", invalidation.section());
+            return;
+        }
+        Set<Long> ids = new HashSet<>();
+        if (!invalidation.entityIds().isEmpty()) {
+            for (String id : invalidation.entityIds().split(",")) {
+                ids.add(Long.valueOf(id));
+            }
+        }
+        Counter.builder("portfolio.invalidations.received")
+                .tag("section", section.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        snapshotHolder.invalidate(section, ids);
+    }
+
+    // Identity values are taken before commit, so a row can appear below one already read. A gap that
+    // outlives gap-timeout belongs to a transaction that rolled back and is skipped.
+    private void advanceWatermark() {
+        while (seen.remove(watermark + 1)) {
+            watermark++;
+        }
+        if (seen.isEmpty()) {
+            gapSince = 0;
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (gapSince == 0) {
+            gapSince = now;
+        } else if (now - gapSince >= gapTimeout) {
+            logger.debug("Skipping cache_invalidations ids {}..{}", watermark + 1, seen.first() - 1);
+            watermark = seen.first() - 1;
+            gapSince = 0;
+            advanceWatermark();
+        }
+    }
+
+    private void prune() {
+        long now = System.currentTimeMillis();
+        if (now - lastPrune < Math.min(retention, TimeUnit.MINUTES.toMillis(1))) {
+            return;
+        }
+        lastPrune = now;
+        jdbcTemplate.update(DELETE_SQL, new Timestamp(now - retention));
+    }
+
+    private record Invalidation(long id, String nodeId, String section, String entityIds) {
+    }
+}
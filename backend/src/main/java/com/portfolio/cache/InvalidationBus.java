@@ -0,0 +1,19 @@
+package com.portfolio.cache;
+
+import java.util.Set;
+
+/**
+ * Carries content changes to the other instances of the backend, each of which refreshes the affected
+ * sections of its own snapshot. Selected with cache.invalidation.bus; "none" runs without one.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Called in the writer's transaction just before it commits, or on its own when there is none. A
+     * transactional implementation therefore sends the change exactly when it becomes visible, and an
+     * exception here rolls the change back.
+     *
+     * @param ids rows that changed; empty when any row of the section may have changed
+     */
+    void publish(ContentSection section, Set<Long> ids);
+}
@@ -0,0 +1,160 @@
+package com.portfolio.cache;
+
+import com.portfolio.model.Experience;
+import com.portfolio.model.PersonalInfo;
+import com.portfolio.model.Project;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable view of everything the public API serves. A new instance is built for every change.
+ */
+@Getter
+public class PortfolioSnapshot {
+
+    /**
+     * Listing order of projects; the id tie-break makes it a total order usable as a keyset cursor.
+     */
+    public static final Comparator<Project> PROJECT_ORDER = Comparator
+            .comparing(Project::getDisplayOrder, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Project::getId);
+
+    private final long version;
+    private final List<Project> projects;
+    private final List<Project> featuredProjects;
+    private final List<Experience> experiences;
+    private final PersonalInfo personalInfo;
+
+    private final Map<Long, Project> projectsById;
+    private final Map<Long, Experience> experiencesById;
+    private final TechnologyIndex technologyIndex;
+
+    private final Map<PublicResource, RenderedResource> resources;
+
+    public PortfolioSnapshot(long version, List<Project> projects, List<Experience> experiences,
+                             PersonalInfo personalInfo) {
+        this.version = version;
+        this.projects = projects.stream().sorted(PROJECT_ORDER).toList();
+        this.featuredProjects = featured(this.projects);
+        this.projectsById = index(this.projects, Project::getId);
+        this.technologyIndex = TechnologyIndex.of(this.projects);
+        this.experiences = List.copyOf(experiences);
+        this.experiencesById = index(this.experiences, Experience::getId);
+        this.personalInfo = personalInfo;
+        this.resources = Map.of();
+    }
+
+    // Copies a snapshot, sharing every derived structure of the sections that did not change
+    private PortfolioSnapshot(PortfolioSnapshot base, long version, Map<PublicResource, RenderedResource> resources) {
+        this.version = version;
+        this.projects = base.projects;
+        this.featuredProjects = base.featuredProjects;
+        this.projectsById = base.projectsById;
+        this.technologyIndex = base.technologyIndex;
+        this.experiences = base.experiences;
+        this.experiencesById = base.experiencesById;
+        this.personalInfo = base.personalInfo;
+        this.resources = Map.copyOf(resources);
+    }
+
+    private PortfolioSnapshot(PortfolioSnapshot base, List<Project> projects, Set<Long> changedIds) {
+        this.version = base.version + 1;
+        this.projects = projects.stream().sorted(PROJECT_ORDER).toList();
+        this.featuredProjects = featured(this.projects);
+        this.projectsById = index(this.projects, Project::getId);
+        this.technologyIndex = changedIds.isEmpty()
+                ? TechnologyIndex.of(this.projects)
+                : base.technologyIndex.update(changedIds, this.projectsById);
+        this.experiences = base.experiences;
+        this.experiencesById = base.experiencesById;
+        this.personalInfo = base.personalInfo;
+        this.resources = base.resources;
+    }
+
+    private PortfolioSnapshot(PortfolioSnapshot base, List<Experience> experiences, PersonalInfo personalInfo) {
+        this.version = base.version + 1;
+        this.projects = base.projects;
+        this.featuredProjects = base.featuredProjects;
+        this.projectsById = base.projectsById;
+        this.technologyIndex = base.technologyIndex;
+        this.experiences = experiences == base.experiences ? experiences : List.copyOf(experiences);
+        this.experiencesById = experiences == base.experiences
+                ? base.experiencesById
+                : index(this.experiences, Experience::getId);
+        this.personalInfo = personalInfo;
+        this.resources = base.resources;
+    }
+
+    public Optional<Project> findProject(Long id) {
+        return Optional.ofNullable(projectsById.get(id));
+    }
+
+    public Optional<Experience> findExperience(Long id) {
+        return Optional.ofNullable(experiencesById.get(id));
+    }
+
+    public Optional<PersonalInfo> findPersonalInfo() {
+        return Optional.ofNullable(personalInfo);
+    }
+
+    public RenderedResource getResource(PublicResource resource) {
+        return resources.get(resource);
+    }
+
+    /**
+     * Projects matching all (or any) of the given technology tags, in listing order.
+     */
+    public List<Project> findProjectsByTechnologies(List<String> tags, boolean matchAll) {
+        List<Long> ids = technologyIndex.match(tags, matchAll);
+        List<Project> matches = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Project project = projectsById.get(id);
+            if (project != null) {
+                matches.add(project);
+            }
+        }
+        matches.sort(PROJECT_ORDER);
+        return matches;
+    }
+
+    public PortfolioSnapshot withResources(Map<PublicResource, RenderedResource> resources) {
+        return new PortfolioSnapshot(this, version, resources);
+    }
+
+    /**
+     * @param changedIds projects known to have changed; empty when any project may have changed
+     */
+    public PortfolioSnapshot withProjects(List<Project> projects, Set<Long> changedIds) {
+        return new PortfolioSnapshot(this, projects, changedIds);
+    }
+
+    public PortfolioSnapshot withExperiences(List<Experience> experiences) {
+        return new PortfolioSnapshot(this, experiences, personalInfo);
+    }
+
+    public PortfolioSnapshot withPersonalInfo(PersonalInfo personalInfo) {
+        return new PortfolioSnapshot(this, experiences, personalInfo);
+    }
+
+    private static List<Project> featured(List<Project> projects) {
+        return projects.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsFeatured()))
+                .toList();
+    }
+
+    private static <T> Map<Long, T> index(List<T> items, Function<T, Long> id) {
+        Map<Long, T> map = new HashMap<>();
+        for (T item : items) {
+            map.put(id.apply(item), item);
+        }
+        return Map.copyOf(map);
+    }
+}
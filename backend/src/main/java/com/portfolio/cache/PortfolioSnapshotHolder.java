@@ -0,0 +1,305 @@
+package com.portfolio.cache;
+
+import com.portfolio.datasource.ReadWriteRoutingDataSource;
+import com.portfolio.model.PersonalInfo;
+import com.portfolio.monitoring.QueryMonitor;
+import com.portfolio.repository.ExperienceRepository;
+import com.portfolio.repository.PersonalInfoRepository;
+import com.portfolio.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serves the public read model from memory. Writers swap in a freshly built snapshot after their
+ * transaction commits, so readers never see a half-applied change and never touch the database.
+ * <p>
+ * Loads are single-flight: one background thread rebuilds, and every refresh requested while a load is
+ * queued joins it, so a burst of edits (or of first readers at startup) costs one query per section
+ * rather than one per caller. Readers keep the previous snapshot until the new one is swapped in; writers
+ * wait for a load that started after their commit, for at most {@code snapshot.refresh-wait}.
+ */
+@Component
+public class PortfolioSnapshotHolder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioSnapshotHolder.class);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private PersonalInfoRepository personalInfoRepository;
+
+    @Autowired
+    private PublicResourceRenderer renderer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QueryMonitor queryMonitor;
+
+    // A provider, since the bus in turn delivers other instances' changes to this holder
+    @Autowired
+    private ObjectProvider<InvalidationBus> invalidationBus;
+
+    private final TransactionTemplate readTransaction;
+    private final long refreshWait;
+    private final long loadTimeout;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guards the pending work below; held only to merge or take it, never across a load
+    private final ReentrantLock pendingLock = new ReentrantLock();
+
+    // Sections to reload with the ids that changed; an empty set means any row may have changed
+    private final Map<ContentSection, Set<Long>> pendingSections = new EnumMap<>(ContentSection.class);
+    private boolean pendingRebuildAll;
+    // Completed by the queued load that will pick up everything pending; null when nothing is queued
+    private CompletableFuture<PortfolioSnapshot> pendingLoad;
+
+    private volatile PortfolioSnapshot snapshot;
+
+    public PortfolioSnapshotHolder(PlatformTransactionManager transactionManager,
+                                   @Value("${snapshot.refresh-wait:2000}") long refreshWait,
+                                   @Value("${snapshot.load-timeout:30000}") long loadTimeout) {
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.refreshWait = refreshWait;
+        this.loadTimeout = loadTimeout;
+    }
+
+    public PortfolioSnapshot current() {
+        PortfolioSnapshot current = snapshot;
+        if (current == null) {
+            current = rebuildAll();
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onContentChanging(ContentChangedEvent event) {
+        invalidationBus.ifAvailable(bus -> bus.publish(event.getSection(), event.getIds()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        refresh(event.getSection(), event.getIds());
+    }
+
+    /**
+     * @throws IllegalStateException if there is no snapshot yet and none could be built within
+     * {@code snapshot.load-timeout}
+     */
+    public PortfolioSnapshot rebuildAll() {
+        return await(request(null, Set.of()), loadTimeout);
+    }
+
+    /**
+     * @return the snapshot including this change, or the current one if the load is still running after
+     * {@code snapshot.refresh-wait}; the change is then published as soon as that load finishes
+     */
+    public PortfolioSnapshot refresh(ContentSection section, Set<Long> ids) {
+        return await(request(section, ids), refreshWait);
+    }
+
+    /**
+     * Queues a refresh without waiting for it, for changes made by another instance: readers here keep
+     * the current snapshot until it is done.
+     */
+    public void invalidate(ContentSection section, Set<Long> ids) {
+        request(section, ids);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // A null section asks for a full rebuild
+    private CompletableFuture<PortfolioSnapshot> request(ContentSection section, Set<Long> ids) {
+        Counter.builder("portfolio.snapshot.refresh.requests")
+                .tag("section", section == null ? "all" : section.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        pendingLock.lock();
+        try {
+            if (section == null) {
+                pendingRebuildAll = true;
+            } else {
+                Set<Long> known = pendingSections.get(section);
+                if (known == null) {
+                    pendingSections.put(section, new HashSet<>(ids));
+                } else if (ids.isEmpty()) {
+                    known.clear();
+                } else if (!known.isEmpty()) {
+                    known.addAll(ids);
+                }
+            }
+            if (pendingLoad == null) {
+                pendingLoad = new CompletableFuture<>();
+                refresher.execute(this::load);
+            }
+            return pendingLoad;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private PortfolioSnapshot await(CompletableFuture<PortfolioSnapshot> load, long timeoutMillis) {
+        try {
+            return load.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            PortfolioSnapshot current = snapshot;
+            if (current == null) {
+                throw new IllegalStateException("Public snapshot not loaded within " + timeoutMillis + " ms");
+            }
+            logger.warn("Public snapshot refresh still running after {} ms, not waiting for it", timeoutMillis);
+            return current;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not refresh the public snapshot", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the public snapshot", e);
+        }
+    }
+
+    // Runs on the refresher thread only, which makes it the single writer of the snapshot field
+    private void load() {
+        Map<ContentSection, Set<Long>> sections;
+        boolean all;
+        CompletableFuture<PortfolioSnapshot> load;
+        pendingLock.lock();
+        try {
+            sections = new EnumMap<>(pendingSections);
+            all = pendingRebuildAll || snapshot == null;
+            load = pendingLoad;
+            pendingSections.clear();
+            pendingRebuildAll = false;
+            pendingLoad = null;
+        } finally {
+            pendingLock.unlock();
+        }
+
+        String tag = all ? "all" : sections.size() == 1
+                ? sections.keySet().iterator().next().name().toLowerCase() : "multiple";
+        long start = System.nanoTime();
+        try {
+            load.complete(queryMonitor.monitor("snapshot", "snapshot load (" + tag + ")",
+                    () -> all ? doRebuildAll() : doRefresh(sections)));
+        } catch (Throwable e) {
+            // Errors too (a failed render, a missing optional encoder class): waiters must never hang
+            logger.warn("Could not refresh the public snapshot", e);
+            load.completeExceptionally(e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            refreshTimer(tag).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private PortfolioSnapshot doRebuildAll() {
+        PortfolioSnapshot base = snapshot;
+        long version = base != null ? base.getVersion() + 1 : 1;
+        PortfolioSnapshot loaded = read(() -> new PortfolioSnapshot(
+                version,
+                projectRepository.findAllByOrderByDisplayOrderAsc(),
+                experienceRepository.findAllByOrderByDisplayOrderAsc(),
+                loadPersonalInfo()));
+        PortfolioSnapshot rebuilt = renderer.render(loaded, base);
+        snapshot = rebuilt;
+        logger.debug("Rebuilt public snapshot v{}", rebuilt.getVersion());
+        for (ContentSection section : ContentSection.values()) {
+            eventPublisher.publishEvent(new SnapshotChangedEvent(base, rebuilt, section, Set.of()));
+        }
+        return rebuilt;
+    }
+
+    // All sections changed since the last load are read in one transaction and rendered once
+    private PortfolioSnapshot doRefresh(Map<ContentSection, Set<Long>> sections) {
+        PortfolioSnapshot base = snapshot;
+        PortfolioSnapshot loaded = read(() -> {
+            PortfolioSnapshot next = base;
+            for (Map.Entry<ContentSection, Set<Long>> entry : sections.entrySet()) {
+                Set<Long> ids = entry.getValue();
+                next = switch (entry.getKey()) {
+                    case PROJECTS -> next.withProjects(projectRepository.findAllByOrderByDisplayOrderAsc(), ids);
+                    case EXPERIENCES -> next.withExperiences(experienceRepository.findAllByOrderByDisplayOrderAsc());
+                    case PERSONAL_INFO -> next.withPersonalInfo(loadPersonalInfo());
+                };
+            }
+            return next;
+        });
+        PortfolioSnapshot rebuilt = renderer.render(loaded, base);
+        snapshot = rebuilt;
+        logger.debug("Refreshed {} in public snapshot v{}", sections.keySet(), rebuilt.getVersion());
+        sections.forEach((section, ids) ->
+                eventPublisher.publishEvent(new SnapshotChangedEvent(base, rebuilt, section, Set.copyOf(ids))));
+        return rebuilt;
+    }
+
+    // On the primary even with a replica configured: a lagging replica could miss the commit that
+    // triggered the load, and nothing would load that section again until the next change
+    private PortfolioSnapshot read(Supplier<PortfolioSnapshot> loader) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> readTransaction.execute(status -> loader.get()));
+    }
+
+    // Reload and re-render time of one load, however many requests it served
+    private Timer refreshTimer(String section) {
+        return Timer.builder("portfolio.snapshot.refresh")
+                .tag("section", section)
+                .register(meterRegistry);
+    }
+
+    private PersonalInfo loadPersonalInfo() {
+        return personalInfoRepository.findById(PersonalInfo.SINGLETON_ID).orElse(null);
+    }
+}
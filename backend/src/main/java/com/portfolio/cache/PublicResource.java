@@ -0,0 +1,9 @@
+package com.portfolio.cache;
+
+public enum PublicResource {
+    PROJECTS,
+    FEATURED_PROJECTS,
+    EXPERIENCES,
+    PERSONAL_INFO,
+    PORTFOLIO
+}
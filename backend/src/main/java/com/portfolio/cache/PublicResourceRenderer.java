@@ -0,0 +1,110 @@
+package com.portfolio.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.dto.PortfolioResponse;
+import com.portfolio.model.Experience;
+import com.portfolio.model.Project;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class PublicResourceRenderer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Renders the resources whose data changed between {@code previous} and {@code next};
+     * untouched resources are carried over as-is.
+     */
+    public PortfolioSnapshot render(PortfolioSnapshot next, PortfolioSnapshot previous) {
+        Map<PublicResource, RenderedResource> resources = new EnumMap<>(PublicResource.class);
+        for (PublicResource resource : PublicResource.values()) {
+            RenderedResource rendered = previous != null && !changed(resource, next, previous)
+                    ? previous.getResource(resource)
+                    : render(resource, next, previous);
+            if (rendered != null) {
+                resources.put(resource, rendered);
+            }
+        }
+        return next.withResources(resources);
+    }
+
+    private boolean changed(PublicResource resource, PortfolioSnapshot next, PortfolioSnapshot previous) {
+        return switch (resource) {
+            case PROJECTS, FEATURED_PROJECTS -> next.getProjects() != previous.getProjects();
+            case EXPERIENCES -> next.getExperiences() != previous.getExperiences();
+            case PERSONAL_INFO -> next.getPersonalInfo() != previous.getPersonalInfo();
+            case PORTFOLIO -> next.getProjects() != previous.getProjects()
+                    || next.getExperiences() != previous.getExperiences()
+                    || next.getPersonalInfo() != previous.getPersonalInfo();
+        };
+    }
+
+    private RenderedResource render(PublicResource resource, PortfolioSnapshot next, PortfolioSnapshot previous) {
+        return switch (resource) {
+            case PROJECTS -> render(resource, next.getProjects(),
+                    lastModifiedOf(next.getProjects().stream().map(Project::getUpdatedAt).toList()), previous);
+            case FEATURED_PROJECTS -> render(resource, next.getFeaturedProjects(),
+                    lastModifiedOf(next.getProjects().stream().map(Project::getUpdatedAt).toList()), previous);
+            case EXPERIENCES -> render(resource, next.getExperiences(),
+                    lastModifiedOf(next.getExperiences().stream().map(Experience::getUpdatedAt).toList()), previous);
+            case PERSONAL_INFO -> next.getPersonalInfo() == null ? null : render(resource, next.getPersonalInfo(),
+                    lastModifiedOf(Collections.singletonList(next.getPersonalInfo().getUpdatedAt())), previous);
+            case PORTFOLIO -> render(resource, portfolioOf(next), lastModifiedOf(allTimestamps(next)), previous);
+        };
+    }
+
+    private RenderedResource render(PublicResource resource, Object value, long lastModified,
+                                    PortfolioSnapshot previous) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render " + resource, e);
+        }
+        RenderedResource rendered = new RenderedResource(body, lastModified);
+        RenderedResource before = previous != null ? previous.getResource(resource) : null;
+        if (before != null && !before.getEtag().equals(rendered.getEtag())
+                && rendered.getLastModified() <= before.getLastModified()) {
+            // A delete changes the body without bumping any updatedAt; keep Last-Modified moving forward
+            rendered = new RenderedResource(body, Math.max(System.currentTimeMillis(), before.getLastModified() + 1000));
+        }
+        return rendered;
+    }
+
+    private PortfolioResponse portfolioOf(PortfolioSnapshot snapshot) {
+        return new PortfolioResponse(
+                snapshot.getPersonalInfo(),
+                snapshot.getProjects(),
+                snapshot.getFeaturedProjects().stream().map(Project::getId).toList(),
+                snapshot.getExperiences());
+    }
+
+    private List<LocalDateTime> allTimestamps(PortfolioSnapshot snapshot) {
+        List<LocalDateTime> timestamps = new ArrayList<>();
+        snapshot.getProjects().forEach(p -> timestamps.add(p.getUpdatedAt()));
+        snapshot.getExperiences().forEach(e -> timestamps.add(e.getUpdatedAt()));
+        snapshot.findPersonalInfo().ifPresent(info -> timestamps.add(info.getUpdatedAt()));
+        return timestamps;
+    }
+
+    private long lastModifiedOf(Collection<LocalDateTime> timestamps) {
+        return timestamps.stream()
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .map(t -> t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(0L);
+    }
+}
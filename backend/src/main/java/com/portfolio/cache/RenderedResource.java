@@ -0,0 +1,60 @@
+package com.portfolio.cache;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A public response body serialized once per data version, with its validators and
+ * precompressed variants.
+ */
+@Getter
+public class RenderedResource {
+
+    // Below this size compression overhead outweighs the savings
+    private static final int MIN_COMPRESSIBLE_SIZE = 256;
+
+    private final byte[] body;
+    private final String etag;
+    private final long lastModified;
+
+    private final Map<ContentEncoding, byte[]> variants = new EnumMap<>(ContentEncoding.class);
+
+    public RenderedResource(byte[] body, long lastModified) {
+        this.body = body;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        this.lastModified = lastModified;
+
+        variants.put(ContentEncoding.IDENTITY, body);
+        if (body.length >= MIN_COMPRESSIBLE_SIZE) {
+            putIfSmaller(ContentEncoding.GZIP, Compressors.gzip(body));
+            putIfSmaller(ContentEncoding.BROTLI, Compressors.brotli(body));
+        }
+    }
+
+    public boolean hasVariant(ContentEncoding encoding) {
+        return variants.containsKey(encoding);
+    }
+
+    public byte[] getBody(ContentEncoding encoding) {
+        return variants.get(encoding);
+    }
+
+    /**
+     * Strong validators must differ per representation, so encoded variants get a suffixed ETag.
+     */
+    public String getEtag(ContentEncoding encoding) {
+        if (encoding == ContentEncoding.IDENTITY) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + encoding.getToken() + "\"";
+    }
+
+    private void putIfSmaller(ContentEncoding encoding, byte[] encoded) {
+        if (encoded != null && encoded.length < body.length) {
+            variants.put(encoding, encoded);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.portfolio.cache;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Published after a new snapshot is swapped in, for structures derived from it.
+ * {@code previous} is null for the first snapshot; an empty id set means the whole section changed.
+ */
+@Getter
+public class SnapshotChangedEvent {
+
+    private final PortfolioSnapshot previous;
+    private final PortfolioSnapshot current;
+    private final ContentSection section;
+    private final Set<Long> ids;
+
+    public SnapshotChangedEvent(PortfolioSnapshot previous, PortfolioSnapshot current,
+                                ContentSection section, Set<Long> ids) {
+        this.previous = previous;
+        this.current = current;
+        this.section = section;
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,167 @@
+package com.portfolio.cache;
+
+import com.portfolio.model.Project;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable inverted index from normalized technology tag to the projects using it. Projects are
+ * numbered densely in the order they are first indexed, so posting sets are small BitSets whatever
+ * the ids. Updates copy only the posting sets they touch, and the numbering only when a project is new.
+ * <p>
+ * The index remembers the tags it holds for each project and updates against those, not against the
+ * previous snapshot: a reload can pick up a row before that row's own change arrives.
+ */
+public class TechnologyIndex {
+
+    private final Map<String, BitSet> positionsByTag;
+    private final Map<Long, List<String>> tagsById;
+    private final Map<Long, Integer> positionById;
+    private final List<Long> idByPosition;
+
+    private TechnologyIndex(Map<String, BitSet> positionsByTag, Map<Long, List<String>> tagsById,
+                            Map<Long, Integer> positionById, List<Long> idByPosition) {
+        this.positionsByTag = positionsByTag;
+        this.tagsById = tagsById;
+        this.positionById = positionById;
+        this.idByPosition = idByPosition;
+    }
+
+    public static TechnologyIndex of(Collection<Project> projects) {
+        Map<String, BitSet> index = new HashMap<>();
+        Map<Long, List<String>> tagsById = new HashMap<>();
+        Map<Long, Integer> positionById = new HashMap<>();
+        List<Long> idByPosition = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            int position = positionById.computeIfAbsent(project.getId(), id -> {
+                idByPosition.add(id);
+                return idByPosition.size() - 1;
+            });
+            List<String> tags = parse(project.getTechnologies());
+            tagsById.put(project.getId(), tags);
+            for (String tag : tags) {
+                index.computeIfAbsent(tag, t -> new BitSet()).set(position);
+            }
+        }
+        return new TechnologyIndex(index, tagsById, positionById, idByPosition);
+    }
+
+    /**
+     * Returns a new index in which only the given projects are re-indexed from their current state;
+     * a project missing from {@code after} was deleted. Deleted projects keep their number until the
+     * next full build.
+     */
+    public TechnologyIndex update(Set<Long> projectIds, Map<Long, Project> after) {
+        Map<Long, Integer> positionById = this.positionById;
+        List<Long> idByPosition = this.idByPosition;
+        for (Long id : projectIds) {
+            if (after.containsKey(id) && !positionById.containsKey(id)) {
+                if (positionById == this.positionById) {
+                    positionById = new HashMap<>(this.positionById);
+                    idByPosition = new ArrayList<>(this.idByPosition);
+                }
+                positionById.put(id, idByPosition.size());
+                idByPosition.add(id);
+            }
+        }
+
+        Map<String, BitSet> index = new HashMap<>(positionsByTag);
+        Map<Long, List<String>> tagsById = new HashMap<>(this.tagsById);
+        Map<String, BitSet> copied = new HashMap<>();
+        for (Long id : projectIds) {
+            Integer position = positionById.get(id);
+            if (position == null) {
+                continue;
+            }
+            Project current = after.get(id);
+            List<String> tags = current != null ? parse(current.getTechnologies()) : List.of();
+            List<String> old = tagsById.getOrDefault(id, List.of());
+            for (String tag : old) {
+                if (!tags.contains(tag)) {
+                    BitSet positions = writable(index, copied, tag);
+                    positions.clear(position);
+                    if (positions.isEmpty()) {
+                        index.remove(tag);
+                        copied.remove(tag);
+                    }
+                }
+            }
+            for (String tag : tags) {
+                if (!old.contains(tag)) {
+                    writable(index, copied, tag).set(position);
+                }
+            }
+            if (current != null) {
+                tagsById.put(id, tags);
+            } else {
+                tagsById.remove(id);
+            }
+        }
+        return new TechnologyIndex(index, tagsById, positionById, idByPosition);
+    }
+
+    /**
+     * Ids of projects tagged with all (or, if {@code matchAll} is false, any) of the given tags.
+     */
+    public List<Long> match(List<String> tags, boolean matchAll) {
+        BitSet result = null;
+        for (String tag : tags) {
+            BitSet positions = positionsByTag.getOrDefault(normalize(tag), new BitSet());
+            if (result == null) {
+                result = (BitSet) positions.clone();
+            } else if (matchAll) {
+                result.and(positions);
+            } else {
+                result.or(positions);
+            }
+        }
+        if (result == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(result.cardinality());
+        for (int position = result.nextSetBit(0); position >= 0; position = result.nextSetBit(position + 1)) {
+            ids.add(idByPosition.get(position));
+        }
+        return ids;
+    }
+
+    /**
+     * Splits a {@code technologies} value into distinct, trimmed, lower-case tags.
+     */
+    public static List<String> parse(String technologies) {
+        if (technologies == null || technologies.isBlank()) {
+            return List.of();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        for (String part : technologies.split(",")) {
+            String tag = normalize(part);
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+        }
+        return new ArrayList<>(tags);
+    }
+
+    public static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BitSet writable(Map<String, BitSet> index, Map<String, BitSet> copied, String tag) {
+        BitSet positions = copied.get(tag);
+        if (positions == null) {
+            BitSet existing = index.get(tag);
+            positions = existing != null ? (BitSet) existing.clone() : new BitSet();
+            index.put(tag, positions);
+            copied.put(tag, positions);
+        }
+        return positions;
+    }
+}
@@ -3,11 +3,14 @@ package com.portfolio.config;
 import com.portfolio.model.Experience;
 import com.portfolio.model.PersonalInfo;
 import com.portfolio.model.Project;
+import com.portfolio.model.SeedMarker;
 import com.portfolio.model.User;
 import com.portfolio.repository.ExperienceRepository;
 import com.portfolio.repository.PersonalInfoRepository;
 import com.portfolio.repository.ProjectRepository;
+import com.portfolio.repository.SeedMarkerRepository;
 import com.portfolio.repository.UserRepository;
+import com.portfolio.service.PersonalInfoService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,6 +19,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class DataInitializer implements CommandLineRunner {
     
+    // Bump when the default data below changes so existing databases are checked again
+    static final String SEED_REVISION = "default-data-1";
+    
+    // Applied once to databases written before personal info was a single row with a fixed key
+    static final String PERSONAL_INFO_SINGLETON = "personal-info-singleton";
+    
     @Autowired
     private UserRepository userRepository;
 
@@ -28,11 +37,30 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private ExperienceRepository experienceRepository;
 
+    @Autowired
+    private PersonalInfoService personalInfoService;
+
+    @Autowired
+    private SeedMarkerRepository seedMarkerRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
     
     @Override
     public void run(String... args) throws Exception {
+        if (!seedMarkerRepository.existsById(PERSONAL_INFO_SINGLETON)) {
+            personalInfoService.adoptLegacyRows();
+            seedMarkerRepository.save(new SeedMarker(PERSONAL_INFO_SINGLETON, null));
+        }
+        // One primary-key lookup instead of the checks below (and a BCrypt hash) on every start
+        if (seedMarkerRepository.existsById(SEED_REVISION)) {
+            return;
+        }
+        seed();
+        seedMarkerRepository.save(new SeedMarker(SEED_REVISION, null));
+    }
+    
+    private void seed() {
         // Create default admin user if not exists
         if (!userRepository.existsByUsername("admin")) {
             User admin = new User();
@@ -45,8 +73,9 @@ public class DataInitializer implements CommandLineRunner {
         }
         
         // Create sample personal info if not exists
-        if (personalInfoRepository.findAll().isEmpty()) {
+        if (!personalInfoRepository.existsById(PersonalInfo.SINGLETON_ID)) {
             PersonalInfo info = new PersonalInfo();
+            info.setId(PersonalInfo.SINGLETON_ID);
             info.setName("Jianyu Qiu");
             info.setTitle("Full Stack Developer");
             info.setBio("Building elegant, accessible web experiences with a focus on clean design, robust functionality, and pixel-perfect execution.");
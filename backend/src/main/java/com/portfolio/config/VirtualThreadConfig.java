@@ -0,0 +1,71 @@
+package com.portfolio.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs Tomcat request handling, and with it JDBC and BCrypt work, on one virtual thread per request.
+ * The Hikari pool stays the real limit: excess requests park cheaply waiting for a connection instead
+ * of each holding a platform worker.
+ *
+ * <p>Uses the property name Spring Boot 3.2 adopted for this, so upgrading makes the class redundant.
+ * The factory method is looked up reflectively so that the default Java 17 build still compiles;
+ * run on Java 21 (see the {@code jdk21} Maven profile) to enable it.
+ *
+ * <p>On Java 21 a virtual thread blocked inside {@code synchronized} pins its carrier, and the JDBC
+ * driver and Hikari still synchronize on some paths. Under heavy database load that can use up the
+ * carriers, so keep the pool small relative to the core count when enabling this.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private final ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        logger.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreads);
+    }
+
+    // Replaces the pooled executor behind MVC async requests and @Async
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(virtualThreads);
+    }
+
+    // Tomcat has stopped taking requests by now; let @Async and async-request tasks finish
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        virtualThreads.shutdown();
+        if (!virtualThreads.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Virtual thread tasks still running after 30 s, interrupting them");
+            virtualThreads.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("spring.threads.virtual.enabled requires Java 21 or later, running on "
+                    + System.getProperty("java.version"));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create virtual thread executor", e);
+        }
+    }
+}
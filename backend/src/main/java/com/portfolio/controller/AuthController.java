@@ -6,15 +6,26 @@ import com.portfolio.dto.MessageResponse;
 import com.portfolio.model.User;
 import com.portfolio.repository.UserRepository;
 import com.portfolio.security.JwtTokenProvider;
+import com.portfolio.security.LoginThrottle;
+import com.portfolio.security.PasswordCheckExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -32,30 +43,95 @@ public class AuthController {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
     
+    @Autowired
+    private LoginThrottle loginThrottle;
+    
+    @Autowired
+    private PasswordCheckExecutor passwordCheckExecutor;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // Throttled before hashing; the request thread is released while BCrypt runs on its own pool
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()
-                )
-        );
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@RequestBody LoginRequest loginRequest,
+                                                                 HttpServletRequest request) {
+        long retryAfter = loginThrottle.tryAcquire(request.getRemoteAddr(), loginRequest.getUsername());
+        if (retryAfter > 0) {
+            return CompletableFuture.completedFuture(rejected("rate_limited", retryAfter));
+        }
+        try {
+            return passwordCheckExecutor.submit("POST /api/auth/login", () -> authenticate(loginRequest));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(rejected("queue_full", PasswordCheckExecutor.RETRY_AFTER_MILLIS));
+        }
+    }
+    
+    private ResponseEntity<?> authenticate(LoginRequest loginRequest) {
+        Authentication authentication;
+        long start = System.nanoTime();
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            loginRequest.getUsername(),
+                            loginRequest.getPassword()
+                    )
+            );
+            passwordCheckTimer("success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (AuthenticationException e) {
+            passwordCheckTimer("failure").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new MessageResponse("Error: Invalid username or password"));
+        }
         
-        SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtTokenProvider.generateToken(authentication);
         
         return ResponseEntity.ok(new JwtResponse(jwt, loginRequest.getUsername()));
     }
     
+    // Includes the user lookup, but BCrypt dominates
+    private Timer passwordCheckTimer(String outcome) {
+        return Timer.builder("auth.password.check")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+    
+    private ResponseEntity<?> rejected(String reason, long retryAfterMillis) {
+        meterRegistry.counter("auth.rejected", "reason", reason).increment();
+        return tooManyRequests(retryAfterMillis);
+    }
+    
+    private static ResponseEntity<?> tooManyRequests(long retryAfterMillis) {
+        long seconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .body(new MessageResponse("Error: Too many login attempts, retry in " + seconds + "s"));
+    }
+    
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@RequestBody LoginRequest signUpRequest) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody LoginRequest signUpRequest,
+                                                             HttpServletRequest request) {
+        long retryAfter = loginThrottle.tryAcquire(request.getRemoteAddr(), signUpRequest.getUsername());
+        if (retryAfter > 0) {
+            return CompletableFuture.completedFuture(rejected("rate_limited", retryAfter));
+        }
+        try {
+            return passwordCheckExecutor.submit("POST /api/auth/register", () -> register(signUpRequest));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(rejected("queue_full", PasswordCheckExecutor.RETRY_AFTER_MILLIS));
+        }
+    }
+    
+    private ResponseEntity<?> register(LoginRequest signUpRequest) {
         if (userRepository.existsByUsername(signUpRequest.getUsername())) {
             return ResponseEntity.badRequest().body(new MessageResponse("Error: Username is already taken!"));
         }
         
         User user = new User();
         user.setUsername(signUpRequest.getUsername());
+        long start = System.nanoTime();
         user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
+        passwordCheckTimer("encode").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         user.setRole("ADMIN");
         
         userRepository.save(user);
@@ -1,10 +1,16 @@
 package com.portfolio.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.portfolio.cache.PublicResource;
+import com.portfolio.dto.BatchOperation;
+import com.portfolio.dto.MessageResponse;
 import com.portfolio.model.Experience;
 import com.portfolio.service.ExperienceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,8 +24,8 @@ public class ExperienceController {
 
     // Public endpoints
     @GetMapping("/public/experiences")
-    public ResponseEntity<List<Experience>> getAllExperiences() {
-        return ResponseEntity.ok(experienceService.getAllExperiences());
+    public ResponseEntity<byte[]> getAllExperiences(WebRequest request) {
+        return RenderedResponses.of(experienceService.getRenderedResource(PublicResource.EXPERIENCES), request);
     }
 
     @GetMapping("/public/experiences/{id}")
@@ -40,6 +46,23 @@ public class ExperienceController {
         return ResponseEntity.ok(experienceService.updateExperience(id, experience));
     }
 
+    // RFC 7396 merge patch; If-Match carries the version from a previous response
+    @PatchMapping(value = "/admin/experiences/{id}", consumes = MergePatchResponses.MERGE_PATCH_JSON)
+    public ResponseEntity<?> patchExperience(@PathVariable Long id, @RequestBody JsonNode patch,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return MergePatchResponses.of(ifMatch, expectedVersion -> experienceService.patchExperience(id, expectedVersion, patch));
+    }
+
+    // Creates, updates, deletes and reorders in one transaction with a single cache refresh
+    @PostMapping("/admin/experiences:batch")
+    public ResponseEntity<?> applyExperienceBatch(@RequestBody List<BatchOperation<Experience>> operations) {
+        try {
+            return ResponseEntity.ok(experienceService.applyExperienceBatch(operations));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+
     @DeleteMapping("/admin/experiences/{id}")
     public ResponseEntity<?> deleteExperience(@PathVariable Long id) {
         experienceService.deleteExperience(id);
@@ -0,0 +1,86 @@
+package com.portfolio.controller;
+
+import com.portfolio.dto.MediaUploadResponse;
+import com.portfolio.dto.MessageResponse;
+import com.portfolio.media.ImageVariantGenerator;
+import com.portfolio.media.MediaFile;
+import com.portfolio.media.MediaStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class MediaController {
+
+    static final String MEDIA_PATH = "/api/public/media/";
+
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    @Autowired
+    private MediaStorage mediaStorage;
+
+    @Autowired
+    private ImageVariantGenerator variantGenerator;
+
+    @PostMapping("/admin/media")
+    public ResponseEntity<?> upload(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: File is empty"));
+        }
+        MediaFile stored;
+        try (InputStream content = file.getInputStream()) {
+            stored = mediaStorage.store(content);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new MessageResponse("Error: Could not store file"));
+        }
+        variantGenerator.submit(stored);
+
+        Map<Integer, String> variants = new LinkedHashMap<>();
+        for (MediaFile variant : variantGenerator.variantsOf(stored)) {
+            variants.put(variant.getWidth(), MEDIA_PATH + variant.getFileName());
+        }
+        String url = MEDIA_PATH + stored.getFileName();
+        return ResponseEntity.created(URI.create(url))
+                .body(new MediaUploadResponse(url, stored.getFormat().getContentType(), file.getSize(), variants));
+    }
+
+    // Names are content hashes, so every hit is cacheable forever; a variant still being generated
+    // falls back to the original, which must be revalidated so the variant is picked up once it exists
+    @GetMapping("/public/media/{fileName}")
+    public void serve(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        MediaFile requested = MediaFile.parse(fileName);
+        MediaFile file = requested;
+        String cacheControl = IMMUTABLE;
+        if (requested != null && requested.isVariant() && !mediaStorage.exists(requested)
+                && variantGenerator.variantsOf(requested.original()).stream()
+                        .anyMatch(variant -> variant.getWidth() == requested.getWidth())) {
+            file = requested.original();
+            cacheControl = REVALIDATE;
+        }
+        if (file == null || !mediaStorage.exists(file)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        FileResponses.send(mediaStorage.path(file), file.getFormat().getContentType(),
+                "\"" + file.getFileName() + "\"", cacheControl, request, response);
+    }
+}
@@ -0,0 +1,59 @@
+package com.portfolio.controller;
+
+import com.portfolio.dto.MessageResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Maps merge-patch outcomes to responses, using the entity version as a strong ETag for If-Match.
+ */
+final class MergePatchResponses {
+
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    interface Patch {
+        /**
+         * @return the version after the update, or null if the entity does not exist
+         */
+        Long apply(Long expectedVersion);
+    }
+
+    private MergePatchResponses() {
+    }
+
+    static ResponseEntity<?> of(String ifMatch, Patch patch) {
+        try {
+            Long expectedVersion = parseIfMatch(ifMatch);
+            Long version = patch.apply(expectedVersion);
+            if (version == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.noContent().eTag("\"" + version + "\"").build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                    .body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+
+    // Absent or "*" means unconditional
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single entity version");
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.portfolio.controller;
 
+import com.portfolio.cache.PublicResource;
+import com.portfolio.dto.MessageResponse;
 import com.portfolio.model.PersonalInfo;
 import com.portfolio.service.PersonalInfoService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api")
@@ -15,14 +20,18 @@ public class PersonalInfoController {
     private PersonalInfoService personalInfoService;
     
     @GetMapping("/public/personal-info")
-    public ResponseEntity<PersonalInfo> getPersonalInfo() {
-        return personalInfoService.getPersonalInfo()
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getPersonalInfo(WebRequest request) {
+        return RenderedResponses.of(personalInfoService.getRenderedResource(), request);
     }
     
+    // Send back the version from the last read to avoid overwriting a concurrent save
     @PostMapping("/admin/personal-info")
-    public ResponseEntity<PersonalInfo> saveOrUpdatePersonalInfo(@RequestBody PersonalInfo personalInfo) {
-        return ResponseEntity.ok(personalInfoService.saveOrUpdatePersonalInfo(personalInfo));
+    public ResponseEntity<?> saveOrUpdatePersonalInfo(@RequestBody PersonalInfo personalInfo) {
+        try {
+            return ResponseEntity.ok(personalInfoService.saveOrUpdatePersonalInfo(personalInfo));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new MessageResponse("Error: Personal info was changed by another save, reload and try again"));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.portfolio.controller;
+
+import com.portfolio.service.PortfolioService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class PortfolioController {
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    // Personal info, projects and experiences from one snapshot, for the first page load
+    @GetMapping("/public/portfolio")
+    public ResponseEntity<byte[]> getPortfolio(WebRequest request) {
+        return RenderedResponses.of(portfolioService.getRenderedPortfolio(), request);
+    }
+}
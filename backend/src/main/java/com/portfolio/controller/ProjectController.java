@@ -1,12 +1,21 @@
 package com.portfolio.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.portfolio.cache.PublicResource;
+import com.portfolio.dto.BatchOperation;
+import com.portfolio.dto.MessageResponse;
 import com.portfolio.model.Project;
+import com.portfolio.model.ProjectStats;
 import com.portfolio.service.ProjectService;
+import com.portfolio.service.ProjectStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api")
@@ -16,25 +25,75 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
     
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    
     // Public endpoints
     @GetMapping("/public/projects")
-    public ResponseEntity<List<Project>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<byte[]> getAllProjects(WebRequest request) {
+        return RenderedResponses.of(projectService.getRenderedResource(PublicResource.PROJECTS), request);
+    }
+    
+    // ?tech=kotlin,spring matches projects using all listed technologies; match=any for either
+    @GetMapping(value = "/public/projects", params = "tech")
+    public ResponseEntity<List<Project>> getProjectsByTechnologies(@RequestParam List<String> tech,
+                                                                   @RequestParam(defaultValue = "all") String match) {
+        if (tech.isEmpty()) {
+            return ResponseEntity.ok(projectService.getAllProjects());
+        }
+        return ResponseEntity.ok(projectService.getProjectsByTechnologies(tech, !"any".equalsIgnoreCase(match)));
+    }
+    
+    // Keyset-paginated listing; fields is a comma-separated sparse fieldset
+    @GetMapping("/public/projects/page")
+    public ResponseEntity<?> getProjectPage(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "20") int limit,
+                                            @RequestParam(required = false) List<String> fields) {
+        try {
+            return ResponseEntity.ok(projectService.getProjectPage(cursor, limit, fields));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
     }
     
     @GetMapping("/public/projects/{id}")
     public ResponseEntity<Project> getProjectById(@PathVariable Long id) {
-        return projectService.getProjectById(id)
+        Optional<Project> project = projectService.getProjectById(id);
+        project.ifPresent(found -> projectStatsService.record(found.getId(), ProjectStatsService.Hit.VIEW));
+        return project
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    // Link-click beacon from the public site; link is github or demo
+    @PostMapping("/public/projects/{id}/clicks")
+    public ResponseEntity<?> recordClick(@PathVariable Long id, @RequestParam String link) {
+        ProjectStatsService.Hit hit = switch (link) {
+            case "github" -> ProjectStatsService.Hit.GITHUB_CLICK;
+            case "demo" -> ProjectStatsService.Hit.DEMO_CLICK;
+            default -> null;
+        };
+        if (hit == null) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: link must be github or demo"));
+        }
+        if (projectService.getProjectById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        projectStatsService.record(id, hit);
+        return ResponseEntity.noContent().build();
+    }
+    
     @GetMapping("/public/projects/featured")
-    public ResponseEntity<List<Project>> getFeaturedProjects() {
-        return ResponseEntity.ok(projectService.getFeaturedProjects());
+    public ResponseEntity<byte[]> getFeaturedProjects(WebRequest request) {
+        return RenderedResponses.of(projectService.getRenderedResource(PublicResource.FEATURED_PROJECTS), request);
     }
     
     // Admin endpoints
+    @GetMapping("/admin/projects/stats")
+    public ResponseEntity<List<ProjectStats>> getProjectStats() {
+        return ResponseEntity.ok(projectStatsService.getStats());
+    }
+    
     @PostMapping("/admin/projects")
     public ResponseEntity<Project> createProject(@RequestBody Project project) {
         return ResponseEntity.ok(projectService.createProject(project));
@@ -45,6 +104,23 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.updateProject(id, project));
     }
     
+    // RFC 7396 merge patch; If-Match carries the version from a previous response
+    @PatchMapping(value = "/admin/projects/{id}", consumes = MergePatchResponses.MERGE_PATCH_JSON)
+    public ResponseEntity<?> patchProject(@PathVariable Long id, @RequestBody JsonNode patch,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return MergePatchResponses.of(ifMatch, expectedVersion -> projectService.patchProject(id, expectedVersion, patch));
+    }
+    
+    // Creates, updates, deletes and reorders in one transaction with a single cache refresh
+    @PostMapping("/admin/projects:batch")
+    public ResponseEntity<?> applyProjectBatch(@RequestBody List<BatchOperation<Project>> operations) {
+        try {
+            return ResponseEntity.ok(projectService.applyProjectBatch(operations));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+    
     @DeleteMapping("/admin/projects/{id}")
     public ResponseEntity<?> deleteProject(@PathVariable Long id) {
         projectService.deleteProject(id);
@@ -0,0 +1,86 @@
+package com.portfolio.controller;
+
+import com.portfolio.cache.ContentEncoding;
+import com.portfolio.cache.RenderedResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Writes pre-rendered public bodies, answering conditional requests with 304 before any body is sent.
+ */
+final class RenderedResponses {
+
+    private RenderedResponses() {
+    }
+
+    static ResponseEntity<byte[]> of(RenderedResource resource, WebRequest request) {
+        if (resource == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ContentEncoding encoding = negotiate(resource, request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // Set directly so that 304 responses carry it too
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (request.checkNotModified(resource.getEtag(encoding), resource.getLastModified())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePublic());
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+        return response.body(resource.getBody(encoding));
+    }
+
+    private static ContentEncoding negotiate(RenderedResource resource, String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return ContentEncoding.IDENTITY;
+        }
+        ContentEncoding best = ContentEncoding.IDENTITY;
+        double bestQuality = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            ContentEncoding candidate = forToken(tokens[0].trim());
+            if (candidate == null || !resource.hasVariant(candidate)) {
+                continue;
+            }
+            double quality = quality(tokens);
+            // Prefer brotli over gzip at equal weight, as the enum order does
+            if (quality > bestQuality || (quality == bestQuality && quality > 0 && candidate.ordinal() < best.ordinal())) {
+                best = candidate;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    private static ContentEncoding forToken(String token) {
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            if (encoding != ContentEncoding.IDENTITY && encoding.getToken().equalsIgnoreCase(token)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.portfolio.controller;
+
+import com.portfolio.dto.SearchHit;
+import com.portfolio.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping("/public/search")
+    public ResponseEntity<List<SearchHit>> search(@RequestParam("q") String query,
+                                                  @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.search(query, limit));
+    }
+}
@@ -20,6 +20,9 @@ public class WelcomeController {
         endpoints.put("Personal Info (Public)", "GET /api/public/personal-info");
         endpoints.put("Projects (Public)", "GET /api/public/projects");
         endpoints.put("Featured Projects (Public)", "GET /api/public/projects/featured");
+        endpoints.put("Portfolio (Public)", "GET /api/public/portfolio");
+        endpoints.put("Search (Public)", "GET /api/public/search?q=");
+        endpoints.put("Change Feed (Public)", "GET /api/public/changes");
         endpoints.put("Login", "POST /api/auth/login");
         endpoints.put("Update Personal Info (Admin)", "POST /api/admin/personal-info");
         endpoints.put("Create Project (Admin)", "POST /api/admin/projects");
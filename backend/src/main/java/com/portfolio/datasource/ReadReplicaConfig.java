@@ -0,0 +1,68 @@
+package com.portfolio.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured pool with a primary and a replica pool once
+ * spring.datasource.replica.url is set. The replica inherits the primary's credentials and
+ * spring.datasource.hikari.* settings; either can be overridden under spring.datasource.replica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReadReplicaConfig {
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        return pool(properties, "primary", Binder.get(environment), "spring.datasource.hikari");
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setDriverClassName(primary.getDriverClassName());
+        properties.setUsername(primary.getUsername());
+        properties.setPassword(primary.getPassword());
+        binder.bind("spring.datasource.replica", Bindable.ofInstance(properties));
+        HikariDataSource pool = pool(properties, "replica", binder,
+                "spring.datasource.hikari", "spring.datasource.replica.hikari");
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name, Binder binder,
+                                         String... prefixes) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        for (String prefix : prefixes) {
+            binder.bind(prefix, Bindable.ofInstance(pool));
+        }
+        pool.setPoolName(name);
+        return pool;
+    }
+}
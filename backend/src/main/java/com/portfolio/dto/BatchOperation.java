@@ -0,0 +1,15 @@
+package com.portfolio.dto;
+
+import lombok.Data;
+
+/**
+ * One step of an admin batch: {@code create} (data), {@code update} (id, data),
+ * {@code delete} (id) or {@code reorder} (id, displayOrder).
+ */
+@Data
+public class BatchOperation<T> {
+    private String op;
+    private Long id;
+    private Integer displayOrder;
+    private T data;
+}
@@ -0,0 +1,13 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BatchResponse {
+    // Id affected by each operation, in request order (the new id for creates)
+    private List<Long> ids;
+}
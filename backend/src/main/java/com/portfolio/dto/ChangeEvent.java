@@ -0,0 +1,15 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+public class ChangeEvent {
+    private long version;
+    private String section;
+    // Empty when the whole section changed
+    private Set<Long> ids;
+}
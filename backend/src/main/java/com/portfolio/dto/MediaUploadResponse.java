@@ -0,0 +1,16 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class MediaUploadResponse {
+    private String url;
+    private String contentType;
+    private long size;
+    // Resized variant URL by width; they become available shortly after the upload
+    private Map<Integer, String> variants;
+}
@@ -0,0 +1,19 @@
+package com.portfolio.dto;
+
+import com.portfolio.model.Experience;
+import com.portfolio.model.PersonalInfo;
+import com.portfolio.model.Project;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Content only: the body, and so its ETag, must be identical on every instance serving the same data
+@Data
+@AllArgsConstructor
+public class PortfolioResponse {
+    private PersonalInfo personalInfo;
+    private List<Project> projects;
+    private List<Long> featuredProjectIds;
+    private List<Experience> experiences;
+}
@@ -0,0 +1,14 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ProjectPage {
+    private List<Map<String, Object>> items;
+    private String nextCursor;
+}
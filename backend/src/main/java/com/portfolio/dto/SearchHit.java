@@ -0,0 +1,14 @@
+package com.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SearchHit {
+    private String type;
+    private Long id;
+    private String title;
+    private String summary;
+    private double score;
+}
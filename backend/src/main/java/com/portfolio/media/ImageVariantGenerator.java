@@ -0,0 +1,215 @@
+package com.portfolio.media;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Resizes uploaded JPEG and PNG images to the configured widths on a small background pool, re-encoding
+ * them (which also drops EXIF metadata). Uploads never wait for it; until a variant exists its URL serves
+ * the original. Variants missed because the queue was full or the process stopped are made on next start.
+ */
+@Component
+public class ImageVariantGenerator implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantGenerator.class);
+
+    private final MediaStorage storage;
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantGenerator(MediaStorage storage,
+                                 @Value("${media.variants.widths:320,640,1280}") List<Integer> widths,
+                                 @Value("${media.variants.max-pixels:40000000}") long maxPixels,
+                                 @Value("${media.variants.jpeg-quality:0.82}") float jpegQuality,
+                                 @Value("${media.executor.threads:1}") int threads,
+                                 @Value("${media.executor.queue-capacity:64}") int queueCapacity) {
+        this.storage = storage;
+        this.widths = widths.stream().filter(width -> width > 0).sorted().distinct().toList();
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+        int size = Math.max(threads, 1);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public List<MediaFile> variantsOf(MediaFile original) {
+        if (!original.getFormat().isResizable()) {
+            return List.of();
+        }
+        List<MediaFile> variants = new ArrayList<>(widths.size());
+        for (int width : widths) {
+            variants.add(original.variant(width));
+        }
+        return variants;
+    }
+
+    public void submit(MediaFile original) {
+        if (!original.getFormat().isResizable()) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(original));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Image variant queue full, {} will be resized on next start", original.getFileName());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateMissing() {
+        try {
+            executor.execute(this::scan);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Image variant queue full, skipped the scan for missing variants");
+        }
+    }
+
+    private void scan() {
+        try (Stream<Path> files = Files.walk(storage.getRoot(), 2)) {
+            files.map(path -> MediaFile.parse(path.getFileName().toString()))
+                    .filter(file -> file != null && !file.isVariant() && file.getFormat().isResizable())
+                    .filter(file -> variantsOf(file).stream().anyMatch(variant -> !storage.exists(variant)))
+                    .forEach(this::generate);
+        } catch (IOException e) {
+            logger.warn("Could not scan {} for missing image variants", storage.getRoot(), e);
+        }
+    }
+
+    private void generate(MediaFile original) {
+        List<MediaFile> missing = variantsOf(original).stream().filter(variant -> !storage.exists(variant)).toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            BufferedImage image = read(storage.path(original));
+            if (image == null) {
+                return;
+            }
+            for (MediaFile variant : missing) {
+                // Never upscale: narrower images are only re-encoded
+                write(scale(image, Math.min(variant.getWidth(), image.getWidth())), variant);
+            }
+            logger.debug("Generated {} variants of {}", missing.size(), original.getFileName());
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not generate variants of {}", original.getFileName(), e);
+        }
+    }
+
+    // Checks the dimensions from the header first so a small file cannot expand into gigabytes of pixels
+    private BufferedImage read(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                logger.warn("No image reader for {}", path.getFileName());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    logger.warn("Not resizing {}: {} pixels exceeds media.variants.max-pixels", path.getFileName(), pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Halves at most per step so that bilinear sampling does not skip source pixels
+    private static BufferedImage scale(BufferedImage source, int width) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private void write(BufferedImage image, MediaFile variant) throws IOException {
+        boolean jpeg = variant.getFormat() == MediaFormat.JPEG;
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(jpeg ? "jpeg" : "png").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (jpeg) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        }
+        Path temp = storage.newTempFile();
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            storage.moveIntoPlace(temp, variant);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Pool size, active threads, queue depth and completed tasks as executor.* tagged name=image.variants
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "image.variants", Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
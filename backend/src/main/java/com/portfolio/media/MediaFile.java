@@ -0,0 +1,59 @@
+package com.portfolio.media;
+
+import lombok.Getter;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A stored file, named after the SHA-256 of the uploaded bytes: {@code <hash>.<ext>} for the
+ * original and {@code <hash>-<width>w.<ext>} for a resized variant in the same format. Names
+ * never change content, so they can be cached forever.
+ */
+@Getter
+public class MediaFile {
+
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})(?:-([1-9][0-9]{0,4})w)?\\.([a-z]+)");
+
+    private final String id;
+    private final MediaFormat format;
+    // 0 for the original
+    private final int width;
+
+    public MediaFile(String id, MediaFormat format, int width) {
+        this.id = id;
+        this.format = format;
+        this.width = width;
+    }
+
+    /**
+     * @return null unless the name has the shape of a stored file
+     */
+    public static MediaFile parse(String fileName) {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        MediaFormat format = MediaFormat.forExtension(matcher.group(3));
+        if (format == null) {
+            return null;
+        }
+        return new MediaFile(matcher.group(1), format, matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2)));
+    }
+
+    public boolean isVariant() {
+        return width > 0;
+    }
+
+    public MediaFile original() {
+        return isVariant() ? new MediaFile(id, format, 0) : this;
+    }
+
+    public MediaFile variant(int width) {
+        return new MediaFile(id, format, width);
+    }
+
+    public String getFileName() {
+        return id + (isVariant() ? "-" + width + "w" : "") + "." + format.getExtension();
+    }
+}
@@ -0,0 +1,73 @@
+package com.portfolio.media;
+
+import lombok.Getter;
+
+/**
+ * Accepted upload formats, recognised by their leading bytes rather than the client's file name or
+ * content type. Anything else, notably HTML and SVG, is rejected so nothing served from our origin
+ * can run script.
+ */
+@Getter
+public enum MediaFormat {
+
+    JPEG("jpg", "image/jpeg", true),
+    PNG("png", "image/png", true),
+    GIF("gif", "image/gif", false),
+    WEBP("webp", "image/webp", false),
+    PDF("pdf", "application/pdf", false);
+
+    // Enough leading bytes to tell the formats above apart
+    static final int SIGNATURE_LENGTH = 12;
+
+    private final String extension;
+    private final String contentType;
+    // Whether resized variants are generated; ImageIO has no WebP codec and would flatten animated GIFs
+    private final boolean resizable;
+
+    MediaFormat(String extension, String contentType, boolean resizable) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.resizable = resizable;
+    }
+
+    static MediaFormat sniff(byte[] header, int length) {
+        if (startsWith(header, length, 0xFF, 0xD8, 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(header, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return PNG;
+        }
+        if (startsWith(header, length, 'G', 'I', 'F', '8')) {
+            return GIF;
+        }
+        if (startsWith(header, length, 'R', 'I', 'F', 'F') && length >= 12
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return WEBP;
+        }
+        if (startsWith(header, length, '%', 'P', 'D', 'F', '-')) {
+            return PDF;
+        }
+        return null;
+    }
+
+    static MediaFormat forExtension(String extension) {
+        for (MediaFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int length, int... signature) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package com.portfolio.media;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content-addressed files on local disk, sharded by the first two hex digits of the hash. Files are
+ * written to a temporary name and moved into place atomically, so readers never see partial content
+ * and uploading the same bytes twice stores them once.
+ */
+@Component
+public class MediaStorage {
+
+    private final Path root;
+
+    public MediaStorage(@Value("${media.storage-dir:data/media}") String storageDir) throws IOException {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the content is not one of the accepted formats
+     */
+    public MediaFile store(InputStream content) throws IOException {
+        Path temp = newTempFile();
+        try {
+            MessageDigest digest = sha256();
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                content.transferTo(out);
+            }
+            MediaFormat format = sniff(temp);
+            if (format == null) {
+                throw new IllegalArgumentException("Unsupported file type, expected JPEG, PNG, GIF, WebP or PDF");
+            }
+            MediaFile file = new MediaFile(HexFormat.of().formatHex(digest.digest()), format, 0);
+            moveIntoPlace(temp, file);
+            return file;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Path path(MediaFile file) {
+        return root.resolve(file.getId().substring(0, 2)).resolve(file.getFileName());
+    }
+
+    public boolean exists(MediaFile file) {
+        return Files.isRegularFile(path(file));
+    }
+
+    // Same directory as the final files, so that the move is a rename
+    Path newTempFile() throws IOException {
+        return Files.createTempFile(root, "upload-", ".tmp");
+    }
+
+    void moveIntoPlace(Path temp, MediaFile file) throws IOException {
+        Path target = path(file);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same name, same bytes
+        }
+    }
+
+    private static MediaFormat sniff(Path file) throws IOException {
+        byte[] header = new byte[MediaFormat.SIGNATURE_LENGTH];
+        try (InputStream in = Files.newInputStream(file)) {
+            return MediaFormat.sniff(header, in.readNBytes(header, 0, header.length));
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.portfolio.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One committed content change, written and polled through JDBC by DatabaseInvalidationBus
+@Entity
+@Table(name = "cache_invalidations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // Instance that made the change; it has already refreshed itself
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+    
+    @Column(nullable = false, length = 50)
+    private String section;
+    
+    // Comma-separated; empty when any row of the section may have changed
+    @Column(name = "entity_ids", nullable = false, length = 2000)
+    private String entityIds;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
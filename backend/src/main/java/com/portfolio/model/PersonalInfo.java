@@ -15,8 +15,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class PersonalInfo {
     
+    // There is one row, always stored under this key
+    public static final long SINGLETON_ID = 1L;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     @Column(length = 255)
@@ -52,4 +54,8 @@ public class PersonalInfo {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
 }
\ No newline at end of file
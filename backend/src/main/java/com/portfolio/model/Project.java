@@ -5,11 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "projects")
 @Data
 @NoArgsConstructor
@@ -53,6 +55,10 @@ public class Project {
     @Column(length = 50)
     private String status = "active";
     
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+    
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,33 @@
+package com.portfolio.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// View and link-click totals per project, written in batches by ProjectStatsService
+@Entity
+@Table(name = "project_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStats {
+    
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Column(nullable = false)
+    private long views;
+    
+    @Column(name = "github_clicks", nullable = false)
+    private long githubClicks;
+    
+    @Column(name = "demo_clicks", nullable = false)
+    private long demoClicks;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.portfolio.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// Records that a given revision of the default data was applied, so startup can skip re-checking it
+@Entity
+@Table(name = "seed_markers")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedMarker {
+    
+    @Id
+    @Column(length = 100)
+    private String id;
+    
+    @CreationTimestamp
+    @Column(name = "applied_at", updatable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,212 @@
+package com.portfolio.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements each request issues and times its repository calls, then logs a
+ * breakdown by repository method and calling class for requests over the statement budget or
+ * the repository time threshold. Within budget a request costs a counter increment per statement
+ * and one map update per repository call; call sites are only resolved for offending calls.
+ * Database work handed to other threads, such as snapshot loads and logins, is counted through
+ * {@link #monitor} under its own scope.
+ */
+@Component
+public class QueryMonitor implements StatementInspector {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryMonitor.class);
+
+    private static final ThreadLocal<RequestQueries> current = new ThreadLocal<>();
+
+    static final String REQUEST_SCOPE = "request";
+
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    @Value("${jpa.monitor.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jpa.monitor.statement-budget:20}")
+    private int statementBudget;
+
+    @Value("${jpa.monitor.time-threshold:500}")
+    private long timeThresholdMillis;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long timeThresholdNanos;
+    private DistributionSummary statementsPerRequest;
+    private Counter overBudget;
+    private Counter overTime;
+
+    @PostConstruct
+    public void init() {
+        timeThresholdNanos = TimeUnit.MILLISECONDS.toNanos(timeThresholdMillis);
+        statementsPerRequest = statementsSummary(REQUEST_SCOPE);
+        overBudget = flaggedCounter("statements");
+        overTime = flaggedCounter("time");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Counts the statements and repository calls of {@code work}, which runs off a request thread, as one
+     * unit tagged {@code scope} and reported as {@code name}. Within a request or another scope the work
+     * simply counts towards that.
+     */
+    public <T> T monitor(String scope, String name, Supplier<T> work) {
+        if (!enabled || current.get() != null) {
+            return work.get();
+        }
+        begin();
+        try {
+            return work.get();
+        } finally {
+            end(scope, name);
+        }
+    }
+
+    void begin() {
+        current.set(new RequestQueries());
+    }
+
+    void end(String scope, String name) {
+        RequestQueries queries = current.get();
+        current.remove();
+        if (queries == null) {
+            return;
+        }
+        (REQUEST_SCOPE.equals(scope) ? statementsPerRequest : statementsSummary(scope)).record(queries.statements);
+
+        long repositoryNanos = 0;
+        for (RequestQueries.Call call : queries.calls.values()) {
+            repositoryNanos += call.nanos;
+        }
+        boolean statementsExceeded = queries.statements > statementBudget;
+        boolean timeExceeded = repositoryNanos > timeThresholdNanos;
+        if (!statementsExceeded && !timeExceeded) {
+            return;
+        }
+        if (statementsExceeded) {
+            overBudget.increment();
+        }
+        if (timeExceeded) {
+            overTime.increment();
+        }
+        logger.warn(report(name, queries, repositoryNanos, statementsExceeded, timeExceeded));
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueries queries = current.get();
+        if (queries != null) {
+            queries.statements++;
+            if (!queries.inRepository) {
+                // Lazy loading, or queries through the EntityManager
+                RequestQueries.Call call = queries.call(RequestQueries.NO_REPOSITORY);
+                call.statements++;
+                if (call.caller == null && queries.statements > statementBudget) {
+                    call.caller = caller();
+                }
+            }
+        }
+        return sql;
+    }
+
+    Object invoke(String label, MethodInvocation invocation) throws Throwable {
+        RequestQueries queries = current.get();
+        if (queries == null || queries.inRepository) {
+            return invocation.proceed();
+        }
+        int statementsBefore = queries.statements;
+        long start = System.nanoTime();
+        queries.inRepository = true;
+        try {
+            return invocation.proceed();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            queries.inRepository = false;
+            RequestQueries.Call call = queries.call(label);
+            call.invocations++;
+            call.statements += queries.statements - statementsBefore;
+            call.nanos += nanos;
+            if (call.caller == null && (queries.statements > statementBudget || nanos > timeThresholdNanos)) {
+                call.caller = caller();
+            }
+        }
+    }
+
+    private String report(String name, RequestQueries queries, long repositoryNanos,
+                          boolean statementsExceeded, boolean timeExceeded) {
+        StringBuilder report = new StringBuilder(name)
+                .append(": ").append(queries.statements).append(" statements, ")
+                .append(TimeUnit.NANOSECONDS.toMillis(repositoryNanos)).append(" ms in repositories, ")
+                .append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queries.startNanos)).append(" ms total (");
+        if (statementsExceeded) {
+            report.append("statement budget ").append(statementBudget);
+        }
+        if (timeExceeded) {
+            report.append(statementsExceeded ? ", " : "").append("time threshold ").append(timeThresholdMillis).append(" ms");
+        }
+        report.append(" exceeded)");
+        for (RequestQueries.Call call : queries.calls.values()) {
+            report.append("\n    ").append(call.label);
+            if (call.invocations > 0) {
+                report.append(" x").append(call.invocations);
+            }
+            report.append(": ").append(call.statements).append(" statements");
+            if (call.invocations > 0) {
+                report.append(", ").append(TimeUnit.NANOSECONDS.toMillis(call.nanos)).append(" ms");
+            }
+            if (call.caller != null) {
+                report.append(", first flagged call from ").append(call.caller);
+            }
+        }
+        return report.toString();
+    }
+
+    // First application frame outside the repositories, Spring proxies and this package
+    private static String caller() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith("com.portfolio.")
+                && !className.startsWith("com.portfolio.monitoring.")
+                && !className.startsWith("com.portfolio.repository.")
+                && !className.contains("$$");
+    }
+
+    private DistributionSummary statementsSummary(String scope) {
+        return DistributionSummary.builder("jpa.request.statements")
+                .description("SQL statements issued per request, or per unit of background work")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    private Counter flaggedCounter(String reason) {
+        return Counter.builder("jpa.requests.flagged")
+                .description("Requests over the statement budget or the repository time threshold")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
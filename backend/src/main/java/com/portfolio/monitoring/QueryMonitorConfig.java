@@ -0,0 +1,34 @@
+package com.portfolio.monitoring;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+public class QueryMonitorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMonitorStatementInspector(QueryMonitor queryMonitor) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryMonitor);
+    }
+
+    // Static and lazy so that the repository factory beans are still post-processed normally
+    @Bean
+    public static BeanPostProcessor repositoryCallInterceptorPostProcessor(ObjectProvider<QueryMonitor> queryMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repository) -> proxyFactory.addAdvice(
+                                    new RepositoryCallInterceptor(repository.getRepositoryInterface(), queryMonitor))));
+                }
+                return bean;
+            }
+        };
+    }
+}
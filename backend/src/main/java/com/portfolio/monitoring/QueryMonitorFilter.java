@@ -0,0 +1,38 @@
+package com.portfolio.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMonitorFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private QueryMonitor queryMonitor;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !queryMonitor.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        queryMonitor.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryMonitor.end(QueryMonitor.REQUEST_SCOPE, request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
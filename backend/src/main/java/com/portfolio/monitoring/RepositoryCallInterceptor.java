@@ -0,0 +1,36 @@
+package com.portfolio.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Attributes statements to the repository method that issued them, e.g.
+ * {@code PersonalInfoRepository.findAll}. One instance per repository.
+ */
+class RepositoryCallInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+    private final ObjectProvider<QueryMonitor> queryMonitorProvider;
+    private final Map<Method, String> labels = new ConcurrentHashMap<>();
+    private volatile QueryMonitor queryMonitor;
+
+    RepositoryCallInterceptor(Class<?> repositoryInterface, ObjectProvider<QueryMonitor> queryMonitorProvider) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+        this.queryMonitorProvider = queryMonitorProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        QueryMonitor monitor = queryMonitor;
+        if (monitor == null) {
+            monitor = queryMonitor = queryMonitorProvider.getObject();
+        }
+        String label = labels.computeIfAbsent(invocation.getMethod(), method -> repositoryName + "." + method.getName());
+        return monitor.invoke(label, invocation);
+    }
+}
@@ -0,0 +1,34 @@
+package com.portfolio.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statements and repository calls made on one request thread, or in one monitored unit of background
+ * work. Only touched by that thread.
+ */
+final class RequestQueries {
+
+    static final String NO_REPOSITORY = "EntityManager";
+
+    final long startNanos = System.nanoTime();
+    int statements;
+    boolean inRepository;
+    final Map<String, Call> calls = new LinkedHashMap<>(8);
+
+    Call call(String label) {
+        return calls.computeIfAbsent(label, Call::new);
+    }
+
+    static final class Call {
+        final String label;
+        String caller;
+        int invocations;
+        int statements;
+        long nanos;
+
+        Call(String label) {
+            this.label = label;
+        }
+    }
+}
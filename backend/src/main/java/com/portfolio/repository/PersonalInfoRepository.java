@@ -2,8 +2,21 @@ package com.portfolio.repository;
 
 import com.portfolio.model.PersonalInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PersonalInfoRepository extends JpaRepository<PersonalInfo, Long> {
-}
\ No newline at end of file
+
+    // Rows from before the fixed key: the oldest one (the one reads used to pick) takes the key
+    @Modifying
+    @Query(value = "update personal_info set id = :id where id = (select min(id) from personal_info) "
+            + "and not exists (select 1 from personal_info where id = :id)", nativeQuery = true)
+    int moveOldestRowTo(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from PersonalInfo p where p.id <> :id")
+    int deleteAllExcept(@Param("id") Long id);
+}
@@ -0,0 +1,9 @@
+package com.portfolio.repository;
+
+import com.portfolio.model.SeedMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeedMarkerRepository extends JpaRepository<SeedMarker, String> {
+}
@@ -0,0 +1,183 @@
+package com.portfolio.search;
+
+import com.portfolio.cache.PortfolioSnapshot;
+import com.portfolio.cache.SnapshotChangedEvent;
+import com.portfolio.dto.SearchHit;
+import com.portfolio.model.Experience;
+import com.portfolio.model.Project;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * In-process inverted index over projects and experiences, ranked with BM25 over field-weighted term
+ * frequencies. It follows snapshot changes document by document instead of being rebuilt, and the last
+ * query term also matches as a prefix.
+ */
+@Component
+public class SearchIndex {
+
+    static final String PROJECT = "project";
+    static final String EXPERIENCE = "experience";
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double TECHNOLOGIES_WEIGHT = 2.0;
+    private static final double COMPANY_WEIGHT = 2.0;
+    private static final double SHORT_DESCRIPTION_WEIGHT = 1.5;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    // Sorted so that prefix matches are a range scan
+    private final ConcurrentSkipListMap<String, Map<DocKey, Double>> postings = new ConcurrentSkipListMap<>();
+    private final Map<DocKey, Document> documents = new ConcurrentHashMap<>();
+    private volatile double totalLength;
+
+    @EventListener
+    public synchronized void onSnapshotChanged(SnapshotChangedEvent event) {
+        PortfolioSnapshot current = event.getCurrent();
+        switch (event.getSection()) {
+            case PROJECTS -> sync(PROJECT, event.getIds(), current.getProjectsById(), this::documentOf);
+            case EXPERIENCES -> sync(EXPERIENCE, event.getIds(), current.getExperiencesById(), this::documentOf);
+            case PERSONAL_INFO -> {
+            }
+        }
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        List<String> terms = Tokenizer.tokenize(query);
+        int documentCount = documents.size();
+        if (terms.isEmpty() || documentCount == 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(totalLength / documentCount, 1.0);
+
+        Map<DocKey, Double> scores = new HashMap<>();
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            score(term, postings.get(term), 1.0, documentCount, averageLength, scores);
+            boolean last = i == terms.size() - 1;
+            if (last && term.length() >= MIN_PREFIX_LENGTH) {
+                for (Map.Entry<String, Map<DocKey, Double>> entry
+                        : postings.subMap(term, false, term + Character.MAX_VALUE, true).entrySet()) {
+                    score(entry.getKey(), entry.getValue(), PREFIX_WEIGHT, documentCount, averageLength, scores);
+                }
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(scores.size());
+        scores.forEach((key, score) -> {
+            Document document = documents.get(key);
+            if (document != null) {
+                hits.add(new SearchHit(key.type(), key.id(), document.title(), document.summary(), score));
+            }
+        });
+        hits.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    private void score(String term, Map<DocKey, Double> postingList, double weight, int documentCount,
+                       double averageLength, Map<DocKey, Double> scores) {
+        if (postingList == null || postingList.isEmpty()) {
+            return;
+        }
+        int documentFrequency = postingList.size();
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        postingList.forEach((key, frequency) -> {
+            Document document = documents.get(key);
+            if (document == null) {
+                return;
+            }
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            double termScore = weight * idf * frequency * (K1 + 1) / (frequency + norm);
+            scores.merge(key, termScore, Double::sum);
+        });
+    }
+
+    private <T> void sync(String type, Set<Long> ids, Map<Long, T> current, Function<T, Document> toDocument) {
+        if (ids.isEmpty()) {
+            for (DocKey key : new ArrayList<>(documents.keySet())) {
+                if (key.type().equals(type) && !current.containsKey(key.id())) {
+                    remove(key);
+                }
+            }
+            current.values().forEach(item -> put(toDocument.apply(item)));
+            return;
+        }
+        for (Long id : ids) {
+            T item = current.get(id);
+            if (item != null) {
+                put(toDocument.apply(item));
+            } else {
+                remove(new DocKey(type, id));
+            }
+        }
+    }
+
+    private void put(Document document) {
+        remove(document.key());
+        document.termWeights().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(document.key(), frequency));
+        documents.put(document.key(), document);
+        totalLength += document.length();
+    }
+
+    private void remove(DocKey key) {
+        Document document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.termWeights().keySet()) {
+            postings.computeIfPresent(term, (t, docs) -> {
+                docs.remove(key);
+                return docs.isEmpty() ? null : docs;
+            });
+        }
+        totalLength -= document.length();
+    }
+
+    private Document documentOf(Project project) {
+        Map<String, Double> weights = new HashMap<>();
+        double length = add(weights, project.getTitle(), TITLE_WEIGHT)
+                + add(weights, project.getShortDescription(), SHORT_DESCRIPTION_WEIGHT)
+                + add(weights, project.getDescription(), DESCRIPTION_WEIGHT)
+                + add(weights, project.getTechnologies(), TECHNOLOGIES_WEIGHT);
+        return new Document(new DocKey(PROJECT, project.getId()), project.getTitle(),
+                project.getShortDescription(), weights, length);
+    }
+
+    private Document documentOf(Experience experience) {
+        Map<String, Double> weights = new HashMap<>();
+        double length = add(weights, experience.getTitle(), TITLE_WEIGHT)
+                + add(weights, experience.getCompany(), COMPANY_WEIGHT)
+                + add(weights, experience.getDescription(), DESCRIPTION_WEIGHT)
+                + add(weights, experience.getTechnologies(), TECHNOLOGIES_WEIGHT);
+        return new Document(new DocKey(EXPERIENCE, experience.getId()), experience.getTitle(),
+                experience.getCompany(), weights, length);
+    }
+
+    private double add(Map<String, Double> weights, String text, double weight) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        for (String token : tokens) {
+            weights.merge(token, weight, Double::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    record DocKey(String type, long id) {
+    }
+
+    record Document(DocKey key, String title, String summary, Map<String, Double> termWeights, double length) {
+    }
+}
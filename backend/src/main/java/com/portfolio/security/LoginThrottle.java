@@ -0,0 +1,75 @@
+package com.portfolio.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-IP and per-username token buckets for login attempts, checked before any password hashing.
+ * Lookups go through ConcurrentHashMap, so concurrent attempts on different keys never contend, and
+ * each bucket is updated with a single CAS.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final long SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> usernameBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+
+    private final long ipInterval;
+    private final long ipTolerance;
+    private final long usernameInterval;
+    private final long usernameTolerance;
+
+    @Value("${login.rate.max-tracked:10000}")
+    private int maxTracked;
+
+    public LoginThrottle(@Value("${login.rate.ip.per-minute:30}") int ipPerMinute,
+                         @Value("${login.rate.ip.burst:10}") int ipBurst,
+                         @Value("${login.rate.username.per-minute:10}") int usernamePerMinute,
+                         @Value("${login.rate.username.burst:5}") int usernameBurst) {
+        this.ipInterval = TimeUnit.MINUTES.toNanos(1) / Math.max(ipPerMinute, 1);
+        this.ipTolerance = ipInterval * Math.max(ipBurst, 1);
+        this.usernameInterval = TimeUnit.MINUTES.toNanos(1) / Math.max(usernamePerMinute, 1);
+        this.usernameTolerance = usernameInterval * Math.max(usernameBurst, 1);
+    }
+
+    /**
+     * Takes one attempt from both the client's and the username's bucket.
+     *
+     * @return 0 if the attempt may proceed, otherwise milliseconds until it could
+     */
+    public long tryAcquire(String clientIp, String username) {
+        long now = System.nanoTime();
+        sweep(now);
+        long wait = bucket(ipBuckets, clientIp).tryAcquire(now, ipInterval, ipTolerance);
+        if (wait == 0) {
+            String key = username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+            wait = bucket(usernameBuckets, key).tryAcquire(now, usernameInterval, usernameTolerance);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(wait + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+    }
+
+    private static TokenBucket bucket(Map<String, TokenBucket> buckets, String key) {
+        TokenBucket bucket = buckets.get(key);
+        return bucket != null ? bucket : buckets.computeIfAbsent(key, k -> new TokenBucket());
+    }
+
+    // Full buckets carry no state, so they are dropped once too many keys are tracked; at most once a second
+    private void sweep(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || ipBuckets.size() + usernameBuckets.size() <= maxTracked
+                || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL)) {
+            return;
+        }
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        usernameBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
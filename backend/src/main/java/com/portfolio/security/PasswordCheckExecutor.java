@@ -0,0 +1,69 @@
+package com.portfolio.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import com.portfolio.monitoring.QueryMonitor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt verification on a small fixed pool with a bounded queue, so login bursts are capped at a
+ * few cores and are rejected at once when the queue is full instead of piling up on request threads.
+ * Deliberately not an {@code Executor} bean, which would displace Spring Boot's application task executor.
+ */
+@Component
+public class PasswordCheckExecutor implements MeterBinder {
+
+    public static final long RETRY_AFTER_MILLIS = 1000;
+
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    private QueryMonitor queryMonitor;
+
+    public PasswordCheckExecutor(@Value("${login.executor.threads:0}") int threads,
+                                 @Value("${login.executor.queue-capacity:32}") int queueCapacity) {
+        // Default to half the cores so hashing can never take all of them from public reads
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-check-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @param name reported by the query monitor if the task's user lookups exceed its budget
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(String name, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> queryMonitor.monitor("password-check", name, task), executor);
+    }
+
+    // Pool size, active threads, queue depth and completed tasks as executor.* tagged name=password.check
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "password.check", Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
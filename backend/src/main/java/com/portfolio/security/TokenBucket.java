@@ -0,0 +1,35 @@
+package com.portfolio.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is the time at which the bucket would be
+ * full again, advanced by one compare-and-set per accepted request.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param interval  nanos needed to earn one token back
+     * @param tolerance nanos of credit the bucket can hold, i.e. burst size times interval
+     * @return 0 if a token was taken, otherwise nanos until one is available
+     */
+    long tryAcquire(long now, long interval, long tolerance) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
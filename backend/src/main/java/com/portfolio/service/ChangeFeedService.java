@@ -0,0 +1,296 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.cache.SnapshotChangedEvent;
+import com.portfolio.dto.ChangeEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams committed content changes to public subscribers over Server-Sent Events.
+ *
+ * <p>Idle subscribers are parked servlet async requests, so they cost a socket and an emitter but no
+ * thread. Events, replays and heartbeats are ordered on one broadcaster thread, which never writes to a
+ * socket: it appends to each subscriber's bounded queue, and a writer thread drains that queue only
+ * while there is something to send. A subscriber whose queue overflows or whose write outlives
+ * {@code changes.send-timeout} is dropped and resumes from its {@code Last-Event-ID} on reconnect.
+ *
+ * <p>Event ids are {@code <epoch>-<sequence>}, with a random epoch per instance start. An id from
+ * another instance or from before a restart never matches, and the client is told to reload instead of
+ * silently missing changes.
+ */
+@Service
+public class ChangeFeedService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${changes.timeout:1800000}")
+    private long timeout;
+
+    @Value("${changes.replay-size:256}")
+    private int replaySize;
+
+    @Value("${changes.retry:3000}")
+    private long retry;
+
+    @Value("${changes.queue-size:64}")
+    private int queueSize;
+
+    @Value("${changes.send-timeout:10000}")
+    private long sendTimeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService broadcaster = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Threads exist only while some subscriber has frames to write; a stuck write holds just its own
+    private final ExecutorService writers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+
+    // Only touched on the broadcaster thread
+    private final Deque<BufferedEvent> replay = new ArrayDeque<>();
+    private long lastSequence;
+
+    public ChangeFeedService(@Value("${changes.heartbeat-interval:20000}") long heartbeatInterval) {
+        broadcaster.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param lastEventId the {@code Last-Event-ID} of a reconnecting client, or null for a new one
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeout), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscriber.close(false));
+        emitter.onTimeout(() -> subscriber.close(true));
+        emitter.onError(error -> subscriber.close(false));
+        broadcaster.execute(() -> register(subscriber, lastEventId));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("portfolio.changes.subscribers", this, ChangeFeedService::getSubscriberCount).register(registry);
+    }
+
+    @EventListener
+    public void onSnapshotChanged(SnapshotChangedEvent event) {
+        ChangeEvent change = new ChangeEvent(event.getCurrent().getVersion(),
+                event.getSection().name().toLowerCase(), event.getIds());
+        broadcaster.execute(() -> publish(change));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcaster.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.close(true));
+        writers.shutdown();
+    }
+
+    private void register(Subscriber subscriber, String lastEventId) {
+        Long lastSeen = lastEventId == null ? null : sequenceOf(lastEventId);
+        if (lastEventId != null && (lastSeen == null || lastSeen > lastSequence || lastSeen < oldestResumable())) {
+            subscriber.offer(SseEmitter.event().name(RESET_EVENT).id(eventId(lastSequence))
+                    .reconnectTime(retry).data("{}").build());
+        } else if (lastSeen != null && lastSeen < lastSequence) {
+            for (BufferedEvent buffered : replay) {
+                if (buffered.sequence() > lastSeen) {
+                    subscriber.offer(buffered.data());
+                }
+            }
+        } else {
+            subscriber.offer(SseEmitter.event().reconnectTime(retry).comment("connected").build());
+        }
+        if (!subscriber.closed) {
+            subscribers.add(subscriber);
+        }
+    }
+
+    // Lowest last-seen sequence the replay buffer can still bring up to date
+    private long oldestResumable() {
+        BufferedEvent oldest = replay.peekFirst();
+        return oldest == null ? lastSequence : oldest.sequence() - 1;
+    }
+
+    // Null for an id this instance did not issue since it started
+    private Long sequenceOf(String eventId) {
+        String prefix = epoch + "-";
+        if (!eventId.trim().startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.trim().substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private void publish(ChangeEvent change) {
+        long sequence = ++lastSequence;
+        Set<DataWithMediaType> data;
+        try {
+            data = SseEmitter.event().name(CHANGE_EVENT).id(eventId(sequence))
+                    .data(objectMapper.writeValueAsString(change)).build();
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize change event v{}", change.getVersion(), e);
+            return;
+        }
+        replay.addLast(new BufferedEvent(sequence, data));
+        while (replay.size() > replaySize) {
+            replay.removeFirst();
+        }
+        sendToAll(data);
+    }
+
+    private void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.writeStarted;
+            if (started != 0 && now - started > TimeUnit.MILLISECONDS.toNanos(sendTimeout)) {
+                logger.debug("Dropping change feed subscriber stuck in a write for over {} ms", sendTimeout);
+                subscriber.close(true);
+            }
+        }
+        if (!subscribers.isEmpty()) {
+            sendToAll(SseEmitter.event().comment("").build());
+        }
+    }
+
+    // Rendered once per event and shared by every subscriber
+    private void sendToAll(Set<DataWithMediaType> data) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        // Guarded by this
+        private final Queue<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean draining;
+
+        private volatile boolean closed;
+        // System.nanoTime() when the current write began, 0 between writes
+        private volatile long writeStarted;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // Broadcaster thread; never blocks on the client
+        void offer(Set<DataWithMediaType> data) {
+            boolean full;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                full = queue.size() >= queueSize;
+                if (!full) {
+                    queue.add(data);
+                    if (draining) {
+                        return;
+                    }
+                    draining = true;
+                }
+            }
+            if (full) {
+                logger.debug("Dropping change feed subscriber with {} frames queued", queueSize);
+                close(true);
+            } else {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> data;
+                synchronized (this) {
+                    data = closed ? null : queue.poll();
+                    if (data == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                writeStarted = System.nanoTime();
+                try {
+                    emitter.send(data);
+                } catch (IOException | IllegalStateException e) {
+                    // Already gone; the container reports the failure and completes the request
+                    close(false);
+                } finally {
+                    writeStarted = 0;
+                }
+            }
+        }
+
+        /**
+         * @param complete whether the emitter still has to be completed; done on a writer thread, since
+         * completing waits for a write in progress
+         */
+        void close(boolean complete) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            subscribers.remove(this);
+            if (complete) {
+                writers.execute(emitter::complete);
+            }
+        }
+    }
+
+    private record BufferedEvent(long sequence, Set<DataWithMediaType> data) {
+    }
+}
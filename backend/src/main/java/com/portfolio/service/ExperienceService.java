@@ -1,53 +1,218 @@
 package com.portfolio.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.portfolio.cache.ContentChangedEvent;
+import com.portfolio.cache.ContentSection;
+import com.portfolio.cache.PortfolioSnapshotHolder;
+import com.portfolio.cache.PublicResource;
+import com.portfolio.cache.RenderedResource;
+import com.portfolio.dto.BatchOperation;
+import com.portfolio.dto.BatchResponse;
 import com.portfolio.model.Experience;
 import com.portfolio.repository.ExperienceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class ExperienceService {
 
+    // Columns a merge patch may touch; id, version and timestamps are managed by the server
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "title", "company", "startDate", "endDate", "description", "technologies", "companyUrl",
+            "displayOrder", "status");
+    private static final Set<String> REQUIRED_FIELDS = Set.of("title", "company");
+
     @Autowired
     private ExperienceRepository experienceRepository;
 
+    @Autowired
+    private MergePatchExecutor mergePatchExecutor;
+
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<Experience> getAllExperiences() {
-        return experienceRepository.findAllByOrderByDisplayOrderAsc();
+        return snapshotHolder.current().getExperiences();
+    }
+
+    public RenderedResource getRenderedResource(PublicResource resource) {
+        return snapshotHolder.current().getResource(resource);
     }
 
+    @Transactional(readOnly = true)
     public List<Experience> getExperiencesByStatus(String status) {
         return experienceRepository.findByStatus(status);
     }
 
     public Optional<Experience> getExperienceById(Long id) {
-        return experienceRepository.findById(id);
+        return snapshotHolder.current().findExperience(id);
     }
 
+    @Transactional
     public Experience createExperience(Experience experience) {
-        return experienceRepository.save(experience);
+        Experience saved = experienceRepository.save(experience);
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.EXPERIENCES, saved.getId()));
+        return saved;
     }
 
+    @Transactional
     public Experience updateExperience(Long id, Experience experienceDetails) {
         Experience experience = experienceRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Experience not found with id: " + id));
 
-        experience.setTitle(experienceDetails.getTitle());
-        experience.setCompany(experienceDetails.getCompany());
-        experience.setStartDate(experienceDetails.getStartDate());
-        experience.setEndDate(experienceDetails.getEndDate());
-        experience.setDescription(experienceDetails.getDescription());
-        experience.setTechnologies(experienceDetails.getTechnologies());
-        experience.setCompanyUrl(experienceDetails.getCompanyUrl());
-        experience.setDisplayOrder(experienceDetails.getDisplayOrder());
-        experience.setStatus(experienceDetails.getStatus());
+        copyFields(experienceDetails, experience);
 
-        return experienceRepository.save(experience);
+        Experience saved = experienceRepository.save(experience);
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.EXPERIENCES, id));
+        return saved;
     }
 
+    @Transactional
     public void deleteExperience(Long id) {
         experienceRepository.deleteById(id);
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.EXPERIENCES, id));
+    }
+
+    /**
+     * Applies a merge patch with one column-targeted UPDATE.
+     *
+     * @param expectedVersion from If-Match, or null to update unconditionally
+     * @return the new version, or null if no such experience exists
+     * @throws OptimisticLockingFailureException if the experience was changed since {@code expectedVersion}
+     * @throws IllegalArgumentException if the patch is not applicable
+     */
+    @Transactional
+    public Long patchExperience(Long id, Long expectedVersion, JsonNode patch) {
+        Map<String, Object> values = mergePatchExecutor.readPatch(Experience.class, patch, PATCHABLE_FIELDS, REQUIRED_FIELDS);
+        Long version = mergePatchExecutor.update(Experience.class, id, expectedVersion, values);
+        if (version == null) {
+            if (expectedVersion != null && experienceRepository.existsById(id)) {
+                throw new OptimisticLockingFailureException("Experience " + id + " is no longer at version " + expectedVersion);
+            }
+            return null;
+        }
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.EXPERIENCES, id));
+        return version;
+    }
+
+    /**
+     * Applies create/update/delete/reorder operations in one transaction and publishes a single change.
+     *
+     * @throws IllegalArgumentException for an unknown operation or a missing id; nothing is applied
+     */
+    @Transactional
+    public BatchResponse applyExperienceBatch(List<BatchOperation<Experience>> operations) {
+        Set<Long> existingIds = new HashSet<>();
+        for (BatchOperation<Experience> operation : operations) {
+            String op = operation.getOp() == null ? "" : operation.getOp();
+            switch (op) {
+                case "create" -> requireData(operation);
+                case "update" -> {
+                    requireData(operation);
+                    existingIds.add(requireId(operation));
+                }
+                case "reorder" -> {
+                    existingIds.add(requireId(operation));
+                    if (operation.getDisplayOrder() == null) {
+                        throw new IllegalArgumentException("reorder requires displayOrder");
+                    }
+                }
+                case "delete" -> requireId(operation);
+                default -> throw new IllegalArgumentException("Unknown operation: " + operation.getOp());
+            }
+        }
+        
+        Map<Long, Experience> existing = new HashMap<>();
+        experienceRepository.findAllById(existingIds).forEach(experience -> existing.put(experience.getId(), experience));
+        
+        List<Experience> toSave = new ArrayList<>();
+        Set<Experience> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Long> toDelete = new LinkedHashSet<>();
+        List<Experience> affected = new ArrayList<>();
+        for (BatchOperation<Experience> operation : operations) {
+            Experience experience = switch (operation.getOp()) {
+                case "create" -> {
+                    operation.getData().setId(null);
+                    operation.getData().setVersion(null);
+                    yield operation.getData();
+                }
+                case "update" -> copyFields(operation.getData(), existingOrThrow(existing, operation.getId()));
+                case "reorder" -> {
+                    Experience target = existingOrThrow(existing, operation.getId());
+                    target.setDisplayOrder(operation.getDisplayOrder());
+                    yield target;
+                }
+                default -> null;
+            };
+            if (experience != null) {
+                if (queued.add(experience)) {
+                    toSave.add(experience);
+                }
+            } else {
+                toDelete.add(operation.getId());
+            }
+            affected.add(experience);
+        }
+        
+        experienceRepository.saveAll(toSave);
+        experienceRepository.deleteAllByIdInBatch(toDelete);
+        
+        List<Long> ids = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            ids.add(affected.get(i) != null ? affected.get(i).getId() : operations.get(i).getId());
+        }
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentSection.EXPERIENCES, ids));
+        return new BatchResponse(ids);
+    }
+
+    private Experience copyFields(Experience source, Experience experience) {
+        experience.setTitle(source.getTitle());
+        experience.setCompany(source.getCompany());
+        experience.setStartDate(source.getStartDate());
+        experience.setEndDate(source.getEndDate());
+        experience.setDescription(source.getDescription());
+        experience.setTechnologies(source.getTechnologies());
+        experience.setCompanyUrl(source.getCompanyUrl());
+        experience.setDisplayOrder(source.getDisplayOrder());
+        experience.setStatus(source.getStatus());
+        return experience;
+    }
+
+    private Experience existingOrThrow(Map<Long, Experience> existing, Long id) {
+        Experience found = existing.get(id);
+        if (found == null) {
+            throw new IllegalArgumentException("Experience not found with id: " + id);
+        }
+        return found;
+    }
+
+    private static Long requireId(BatchOperation<?> operation) {
+        if (operation.getId() == null) {
+            throw new IllegalArgumentException(operation.getOp() + " requires id");
+        }
+        return operation.getId();
+    }
+
+    private static void requireData(BatchOperation<?> operation) {
+        if (operation.getData() == null) {
+            throw new IllegalArgumentException(operation.getOp() + " requires data");
+        }
     }
 }
@@ -0,0 +1,102 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns an RFC 7396 merge-patch document into a single {@code UPDATE} of only the named columns,
+ * guarded by the entity's {@code version} instead of a prior {@code SELECT}.
+ */
+@Component
+public class MergePatchExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Converts the patch members to attribute values, rejecting unknown or read-only fields and
+     * nulls for required ones.
+     *
+     * @throws IllegalArgumentException if the patch cannot be applied to this entity type
+     */
+    public Map<String, Object> readPatch(Class<?> entityType, JsonNode patch, Set<String> patchable,
+                                         Set<String> required) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            if (!patchable.contains(name)) {
+                throw new IllegalArgumentException("Field cannot be patched: " + name);
+            }
+            if (field.getValue().isNull()) {
+                if (required.contains(name)) {
+                    throw new IllegalArgumentException("Field cannot be removed: " + name);
+                }
+                values.put(name, null);
+                continue;
+            }
+            Class<?> javaType = entityManager.getMetamodel().entity(entityType).getAttribute(name).getJavaType();
+            try {
+                values.put(name, objectMapper.treeToValue(field.getValue(), javaType));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid value for " + name);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Must run inside a transaction.
+     *
+     * @param expectedVersion version the client last saw, or null to skip the check
+     * @return the new version, or null if the entity is missing or its version moved on
+     */
+    public <T> Long update(Class<T> entityType, Long id, Long expectedVersion, Map<String, Object> values) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityType);
+        Root<T> root = update.from(entityType);
+
+        values.forEach(update::set);
+        // Bulk updates bypass @UpdateTimestamp and @Version, so both are maintained here
+        update.set("updatedAt", LocalDateTime.now());
+        Path<Long> version = root.get("version");
+        update.set(version, cb.sum(cb.coalesce(version, 0L), 1L));
+
+        Predicate where = cb.equal(root.get("id"), id);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(version, expectedVersion));
+        }
+        update.where(where);
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            return null;
+        }
+        // The row stays locked by the update until commit, so this reads the version it wrote
+        return entityManager.createQuery("select e.version from " + entityManager.getMetamodel()
+                        .entity(entityType).getName() + " e where e.id = :id", Long.class)
+                .setParameter("id", id)
+                .getSingleResult();
+    }
+}
@@ -1,11 +1,21 @@
 package com.portfolio.service;
 
+import com.portfolio.cache.ContentChangedEvent;
+import com.portfolio.cache.ContentSection;
+import com.portfolio.cache.PortfolioSnapshotHolder;
+import com.portfolio.cache.PublicResource;
+import com.portfolio.cache.RenderedResource;
 import com.portfolio.model.PersonalInfo;
 import com.portfolio.repository.PersonalInfoRepository;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.sql.SQLException;
 import java.util.Optional;
 
 @Service
@@ -14,16 +24,63 @@ public class PersonalInfoService {
     @Autowired
     private PersonalInfoRepository personalInfoRepository;
     
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     public Optional<PersonalInfo> getPersonalInfo() {
-        List<PersonalInfo> infoList = personalInfoRepository.findAll();
-        return infoList.isEmpty() ? Optional.empty() : Optional.of(infoList.get(0));
+        return snapshotHolder.current().findPersonalInfo();
     }
     
+    public RenderedResource getRenderedResource() {
+        return snapshotHolder.current().getResource(PublicResource.PERSONAL_INFO);
+    }
+    
+    // Upsert of the single row. A version from an earlier read makes the save conditional, and
+    // concurrent saves of the same version fail with OptimisticLockingFailureException.
+    @Transactional
     public PersonalInfo saveOrUpdatePersonalInfo(PersonalInfo personalInfo) {
-        List<PersonalInfo> existing = personalInfoRepository.findAll();
-        if (!existing.isEmpty()) {
-            personalInfo.setId(existing.get(0).getId());
+        PersonalInfo saved = personalInfoRepository.findById(PersonalInfo.SINGLETON_ID)
+                .map(existing -> update(existing, personalInfo))
+                .orElseGet(() -> insert(personalInfo));
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.PERSONAL_INFO, saved.getId()));
+        return saved;
+    }
+    
+    // Collapses rows written before personal info had a fixed key
+    @Transactional
+    public void adoptLegacyRows() {
+        personalInfoRepository.moveOldestRowTo(PersonalInfo.SINGLETON_ID);
+        personalInfoRepository.deleteAllExcept(PersonalInfo.SINGLETON_ID);
+    }
+    
+    private PersonalInfo update(PersonalInfo existing, PersonalInfo changes) {
+        if (changes.getVersion() != null && !changes.getVersion().equals(existing.getVersion())) {
+            throw new OptimisticLockingFailureException("Personal info was changed by another save");
         }
-        return personalInfoRepository.save(personalInfo);
+        BeanUtils.copyProperties(changes, existing, "id", "version", "updatedAt");
+        return personalInfoRepository.saveAndFlush(existing);
+    }
+    
+    // A concurrent first insert fails on the primary key rather than adding a second row, and is
+    // reported like any other lost race
+    private PersonalInfo insert(PersonalInfo personalInfo) {
+        personalInfo.setId(PersonalInfo.SINGLETON_ID);
+        personalInfo.setVersion(null);
+        try {
+            return personalInfoRepository.saveAndFlush(personalInfo);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new OptimisticLockingFailureException("Personal info was created by another save", e);
+            }
+            throw e;
+        }
+    }
+    
+    // SQLSTATE 23505 on both H2 and Postgres; other constraint failures are not a race
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sql && "23505".equals(sql.getSQLState());
     }
 }
\ No newline at end of file
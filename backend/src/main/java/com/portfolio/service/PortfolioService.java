@@ -0,0 +1,18 @@
+package com.portfolio.service;
+
+import com.portfolio.cache.PortfolioSnapshotHolder;
+import com.portfolio.cache.PublicResource;
+import com.portfolio.cache.RenderedResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PortfolioService {
+
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
+
+    public RenderedResource getRenderedPortfolio() {
+        return snapshotHolder.current().getResource(PublicResource.PORTFOLIO);
+    }
+}
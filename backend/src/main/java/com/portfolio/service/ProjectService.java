@@ -1,59 +1,321 @@
 package com.portfolio.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.portfolio.cache.ContentChangedEvent;
+import com.portfolio.cache.ContentSection;
+import com.portfolio.cache.PortfolioSnapshotHolder;
+import com.portfolio.cache.PublicResource;
+import com.portfolio.cache.PortfolioSnapshot;
+import com.portfolio.cache.RenderedResource;
+import com.portfolio.dto.BatchOperation;
+import com.portfolio.dto.BatchResponse;
+import com.portfolio.dto.ProjectPage;
 import com.portfolio.model.Project;
 import com.portfolio.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 public class ProjectService {
     
+    // Columns a merge patch may touch; id, version and timestamps are managed by the server
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "title", "description", "shortDescription", "technologies", "imageUrl", "projectUrl",
+            "githubUrl", "demoUrl", "displayOrder", "isFeatured", "status");
+    private static final Set<String> REQUIRED_FIELDS = Set.of("title");
+    
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    // Fields a listing may ask for, in response order
+    private static final Map<String, Function<Project, Object>> PROJECT_FIELDS = new LinkedHashMap<>();
+    static {
+        PROJECT_FIELDS.put("id", Project::getId);
+        PROJECT_FIELDS.put("title", Project::getTitle);
+        PROJECT_FIELDS.put("shortDescription", Project::getShortDescription);
+        PROJECT_FIELDS.put("description", Project::getDescription);
+        PROJECT_FIELDS.put("technologies", Project::getTechnologies);
+        PROJECT_FIELDS.put("imageUrl", Project::getImageUrl);
+        PROJECT_FIELDS.put("projectUrl", Project::getProjectUrl);
+        PROJECT_FIELDS.put("githubUrl", Project::getGithubUrl);
+        PROJECT_FIELDS.put("demoUrl", Project::getDemoUrl);
+        PROJECT_FIELDS.put("displayOrder", Project::getDisplayOrder);
+        PROJECT_FIELDS.put("isFeatured", Project::getIsFeatured);
+        PROJECT_FIELDS.put("status", Project::getStatus);
+        PROJECT_FIELDS.put("createdAt", Project::getCreatedAt);
+        PROJECT_FIELDS.put("updatedAt", Project::getUpdatedAt);
+    }
+    
+    // List views leave out the long description unless asked for
+    private static final List<String> DEFAULT_LIST_FIELDS = List.of(
+            "id", "title", "shortDescription", "technologies", "projectUrl", "githubUrl", "demoUrl", "isFeatured");
+    
     @Autowired
     private ProjectRepository projectRepository;
     
+    @Autowired
+    private MergePatchExecutor mergePatchExecutor;
+    
+    @Autowired
+    private PortfolioSnapshotHolder snapshotHolder;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     public List<Project> getAllProjects() {
-        return projectRepository.findAllByOrderByDisplayOrderAsc();
+        return snapshotHolder.current().getProjects();
     }
     
     public List<Project> getFeaturedProjects() {
-        return projectRepository.findByIsFeaturedTrue();
+        return snapshotHolder.current().getFeaturedProjects();
     }
     
+    public List<Project> getProjectsByTechnologies(List<String> technologies, boolean matchAll) {
+        return snapshotHolder.current().findProjectsByTechnologies(technologies, matchAll);
+    }
+    
+    /**
+     * Keyset page over (displayOrder, id) with a sparse fieldset.
+     *
+     * @throws IllegalArgumentException for an unknown field or malformed cursor
+     */
+    public ProjectPage getProjectPage(String cursor, int limit, List<String> fields) {
+        List<String> selected = fields == null || fields.isEmpty() ? DEFAULT_LIST_FIELDS : fields;
+        for (String field : selected) {
+            if (!PROJECT_FIELDS.containsKey(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        List<Project> projects = snapshotHolder.current().getProjects();
+        int from = cursor == null || cursor.isEmpty() ? 0 : firstAfter(projects, decodeCursor(cursor));
+        int to = Math.min(from + size, projects.size());
+        
+        List<Map<String, Object>> items = new ArrayList<>(to - from);
+        for (Project project : projects.subList(from, to)) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (String field : selected) {
+                item.put(field, PROJECT_FIELDS.get(field).apply(project));
+            }
+            items.add(item);
+        }
+        String nextCursor = to < projects.size() ? encodeCursor(projects.get(to - 1)) : null;
+        return new ProjectPage(items, nextCursor);
+    }
+    
+    public RenderedResource getRenderedResource(PublicResource resource) {
+        return snapshotHolder.current().getResource(resource);
+    }
+    
+    @Transactional(readOnly = true)
     public List<Project> getProjectsByStatus(String status) {
         return projectRepository.findByStatus(status);
     }
     
     public Optional<Project> getProjectById(Long id) {
-        return projectRepository.findById(id);
+        return snapshotHolder.current().findProject(id);
+    }
+    
+    private int firstAfter(List<Project> projects, Project key) {
+        int low = 0;
+        int high = projects.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (PortfolioSnapshot.PROJECT_ORDER.compare(projects.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
     
+    private String encodeCursor(Project project) {
+        String key = (project.getDisplayOrder() == null ? "" : project.getDisplayOrder()) + ":" + project.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private Project decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(':');
+            Project probe = new Project();
+            probe.setDisplayOrder(separator == 0 ? null : Integer.valueOf(key.substring(0, separator)));
+            probe.setId(Long.valueOf(key.substring(separator + 1)));
+            return probe;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+    
+    @Transactional
     public Project createProject(Project project) {
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.PROJECTS, saved.getId()));
+        return saved;
     }
     
+    @Transactional
     public Project updateProject(Long id, Project projectDetails) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
         
-        project.setTitle(projectDetails.getTitle());
-        project.setDescription(projectDetails.getDescription());
-        project.setShortDescription(projectDetails.getShortDescription());
-        project.setTechnologies(projectDetails.getTechnologies());
-        project.setImageUrl(projectDetails.getImageUrl());
-        project.setProjectUrl(projectDetails.getProjectUrl());
-        project.setGithubUrl(projectDetails.getGithubUrl());
-        project.setDemoUrl(projectDetails.getDemoUrl());
-        project.setDisplayOrder(projectDetails.getDisplayOrder());
-        project.setIsFeatured(projectDetails.getIsFeatured());
-        project.setStatus(projectDetails.getStatus());
+        copyFields(projectDetails, project);
         
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.PROJECTS, id));
+        return saved;
     }
     
+    @Transactional
     public void deleteProject(Long id) {
         projectRepository.deleteById(id);
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.PROJECTS, id));
+    }
+    
+    /**
+     * Applies a merge patch with one column-targeted UPDATE.
+     *
+     * @param expectedVersion from If-Match, or null to update unconditionally
+     * @return the new version, or null if no such project exists
+     * @throws OptimisticLockingFailureException if the project was changed since {@code expectedVersion}
+     * @throws IllegalArgumentException if the patch is not applicable
+     */
+    @Transactional
+    public Long patchProject(Long id, Long expectedVersion, JsonNode patch) {
+        Map<String, Object> values = mergePatchExecutor.readPatch(Project.class, patch, PATCHABLE_FIELDS, REQUIRED_FIELDS);
+        Long version = mergePatchExecutor.update(Project.class, id, expectedVersion, values);
+        if (version == null) {
+            if (expectedVersion != null && projectRepository.existsById(id)) {
+                throw new OptimisticLockingFailureException("Project " + id + " is no longer at version " + expectedVersion);
+            }
+            return null;
+        }
+        eventPublisher.publishEvent(ContentChangedEvent.of(ContentSection.PROJECTS, id));
+        return version;
+    }
+    
+    /**
+     * Applies create/update/delete/reorder operations in one transaction and publishes a single change.
+     *
+     * @throws IllegalArgumentException for an unknown operation or a missing id; nothing is applied
+     */
+    @Transactional
+    public BatchResponse applyProjectBatch(List<BatchOperation<Project>> operations) {
+        Set<Long> existingIds = new HashSet<>();
+        for (BatchOperation<Project> operation : operations) {
+            String op = operation.getOp() == null ? "" : operation.getOp();
+            switch (op) {
+                case "create" -> requireData(operation);
+                case "update" -> {
+                    requireData(operation);
+                    existingIds.add(requireId(operation));
+                }
+                case "reorder" -> {
+                    existingIds.add(requireId(operation));
+                    if (operation.getDisplayOrder() == null) {
+                        throw new IllegalArgumentException("reorder requires displayOrder");
+                    }
+                }
+                case "delete" -> requireId(operation);
+                default -> throw new IllegalArgumentException("Unknown operation: " + operation.getOp());
+            }
+        }
+        
+        Map<Long, Project> existing = new HashMap<>();
+        projectRepository.findAllById(existingIds).forEach(project -> existing.put(project.getId(), project));
+        
+        List<Project> toSave = new ArrayList<>();
+        Set<Project> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Long> toDelete = new LinkedHashSet<>();
+        List<Project> affected = new ArrayList<>();
+        for (BatchOperation<Project> operation : operations) {
+            Project project = switch (operation.getOp()) {
+                case "create" -> {
+                    operation.getData().setId(null);
+                    operation.getData().setVersion(null);
+                    yield operation.getData();
+                }
+                case "update" -> copyFields(operation.getData(), existingOrThrow(existing, operation.getId()));
+                case "reorder" -> {
+                    Project target = existingOrThrow(existing, operation.getId());
+                    target.setDisplayOrder(operation.getDisplayOrder());
+                    yield target;
+                }
+                default -> null;
+            };
+            if (project != null) {
+                if (queued.add(project)) {
+                    toSave.add(project);
+                }
+            } else {
+                toDelete.add(operation.getId());
+            }
+            affected.add(project);
+        }
+        
+        projectRepository.saveAll(toSave);
+        projectRepository.deleteAllByIdInBatch(toDelete);
+        
+        List<Long> ids = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            ids.add(affected.get(i) != null ? affected.get(i).getId() : operations.get(i).getId());
+        }
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentSection.PROJECTS, ids));
+        return new BatchResponse(ids);
+    }
+    
+    private Project copyFields(Project source, Project project) {
+        project.setTitle(source.getTitle());
+        project.setDescription(source.getDescription());
+        project.setShortDescription(source.getShortDescription());
+        project.setTechnologies(source.getTechnologies());
+        project.setImageUrl(source.getImageUrl());
+        project.setProjectUrl(source.getProjectUrl());
+        project.setGithubUrl(source.getGithubUrl());
+        project.setDemoUrl(source.getDemoUrl());
+        project.setDisplayOrder(source.getDisplayOrder());
+        project.setIsFeatured(source.getIsFeatured());
+        project.setStatus(source.getStatus());
+        return project;
+    }
+    
+    private Project existingOrThrow(Map<Long, Project> existing, Long id) {
+        Project found = existing.get(id);
+        if (found == null) {
+            throw new IllegalArgumentException("Project not found with id: " + id);
+        }
+        return found;
+    }
+    
+    private static Long requireId(BatchOperation<?> operation) {
+        if (operation.getId() == null) {
+            throw new IllegalArgumentException(operation.getOp() + " requires id");
+        }
+        return operation.getId();
+    }
+    
+    private static void requireData(BatchOperation<?> operation) {
+        if (operation.getData() == null) {
+            throw new IllegalArgumentException(operation.getOp() + " requires data");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.portfolio.service;
+
+import com.portfolio.model.ProjectStats;
+import com.portfolio.repository.ProjectStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Counts project views and link clicks in memory and writes the accumulated deltas to project_stats in
+ * one transaction of JDBC batches per flush interval, so a hit costs a map lookup and a LongAdder
+ * increment instead of a row update. A crash loses at most the last interval; a failed flush keeps its
+ * deltas for the next one.
+ */
+@Service
+public class ProjectStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+
+    public enum Hit {
+        VIEW, GITHUB_CLICK, DEMO_CLICK
+    }
+
+    private static final String UPDATE_SQL = "update project_stats set views = views + ?, "
+            + "github_clicks = github_clicks + ?, demo_clicks = demo_clicks + ?, updated_at = ? where project_id = ?";
+    private static final String INSERT_SQL = "insert into project_stats "
+            + "(views, github_clicks, demo_clicks, updated_at, project_id) values (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectStatsRepository projectStatsRepository;
+
+    private final TransactionTemplate transaction;
+
+    // Entries are never removed, so an increment can never land in a counter that was already dropped;
+    // only ids of existing projects are recorded, which bounds the map
+    private final Map<Long, Counters> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "project-stats");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProjectStatsService(PlatformTransactionManager transactionManager,
+                               @Value("${counters.flush-interval:5000}") long flushInterval) {
+        this.transaction = new TransactionTemplate(transactionManager);
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public void record(Long projectId, Hit hit) {
+        Counters counters = pending.get(projectId);
+        if (counters == null) {
+            counters = pending.computeIfAbsent(projectId, id -> new Counters());
+        }
+        counters.add(hit, 1);
+    }
+
+    // Stored totals plus whatever has not been flushed yet
+    @Transactional(readOnly = true)
+    public List<ProjectStats> getStats() {
+        Map<Long, ProjectStats> stats = projectStatsRepository.findAll().stream()
+                .collect(Collectors.toMap(ProjectStats::getProjectId, Function.identity()));
+        pending.forEach((projectId, counters) -> {
+            long[] unflushed = counters.sum();
+            if (isZero(unflushed)) {
+                return;
+            }
+            ProjectStats total = stats.computeIfAbsent(projectId, id -> new ProjectStats(id, 0, 0, 0, null));
+            total.setViews(total.getViews() + unflushed[Hit.VIEW.ordinal()]);
+            total.setGithubClicks(total.getGithubClicks() + unflushed[Hit.GITHUB_CLICK.ordinal()]);
+            total.setDemoClicks(total.getDemoClicks() + unflushed[Hit.DEMO_CLICK.ordinal()]);
+        });
+        List<ProjectStats> result = new ArrayList<>(stats.values());
+        result.sort(Comparator.comparing(ProjectStats::getProjectId));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        pending.forEach((projectId, counters) -> {
+            long[] counts = counters.sumThenReset();
+            if (!isZero(counts)) {
+                deltas.add(new Delta(projectId, counts));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> write(deltas));
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush counters for {} projects, retrying next interval", deltas.size(), e);
+            for (Delta delta : deltas) {
+                Counters counters = pending.get(delta.projectId());
+                for (Hit hit : Hit.values()) {
+                    counters.add(hit, delta.counts()[hit.ordinal()]);
+                }
+            }
+        }
+    }
+
+    // Updates existing rows in one batch, then inserts the rows that were missing in a second
+    private void write(List<Delta> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, deltas, deltas.size(), (statement, delta) -> {
+            statement.setLong(1, delta.counts()[Hit.VIEW.ordinal()]);
+            statement.setLong(2, delta.counts()[Hit.GITHUB_CLICK.ordinal()]);
+            statement.setLong(3, delta.counts()[Hit.DEMO_CLICK.ordinal()]);
+            statement.setTimestamp(4, now);
+            statement.setLong(5, delta.projectId());
+        })[0];
+        List<Delta> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(deltas.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, missing, missing.size(), (statement, delta) -> {
+                statement.setLong(1, delta.counts()[Hit.VIEW.ordinal()]);
+                statement.setLong(2, delta.counts()[Hit.GITHUB_CLICK.ordinal()]);
+                statement.setLong(3, delta.counts()[Hit.DEMO_CLICK.ordinal()]);
+                statement.setTimestamp(4, now);
+                statement.setLong(5, delta.projectId());
+            });
+        }
+    }
+
+    private static boolean isZero(long[] counts) {
+        for (long count : counts) {
+            if (count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Delta(Long projectId, long[] counts) {
+    }
+
+    // LongAdder spreads concurrent increments over striped cells instead of contending on one value
+    private static final class Counters {
+
+        private final LongAdder[] adders = new LongAdder[Hit.values().length];
+
+        Counters() {
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        void add(Hit hit, long count) {
+            adders[hit.ordinal()].add(count);
+        }
+
+        long[] sum() {
+            long[] sums = new long[adders.length];
+            for (int i = 0; i < adders.length; i++) {
+                sums[i] = adders[i].sum();
+            }
+            return sums;
+        }
+
+        // Swaps each cell to zero atomically, so concurrent increments are kept for the next flush
+        long[] sumThenReset() {
+            long[] sums = new long[adders.length];
+            for (int i = 0; i < adders.length; i++) {
+                sums[i] = adders[i].sumThenReset();
+            }
+            return sums;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.service;
+
+import com.portfolio.dto.SearchHit;
+import com.portfolio.search.SearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SearchService {
+
+    public static final int MAX_RESULTS = 50;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    public List<SearchHit> search(String query, int limit) {
+        return searchIndex.search(query, Math.max(1, Math.min(limit, MAX_RESULTS)));
+    }
+}
@@ -0,0 +1,64 @@
+-- Schema as of the switch from ddl-auto=update to versioned migrations.
+-- Existing databases created by Hibernate are baselined at this version and skip it.
+
+create table users (
+    id bigint generated by default as identity,
+    username varchar(100) not null unique,
+    password varchar(255) not null,
+    email varchar(255),
+    role varchar(50),
+    created_at timestamp(6),
+    primary key (id)
+);
+
+create table personal_info (
+    id bigint generated by default as identity,
+    name varchar(255),
+    title varchar(255),
+    bio text,
+    about text,
+    email varchar(255),
+    phone varchar(50),
+    linkedin_url varchar(500),
+    github_url varchar(500),
+    profile_image_url varchar(500),
+    resume_url varchar(500),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table projects (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    description text,
+    short_description varchar(500),
+    technologies varchar(500),
+    image_url varchar(500),
+    project_url varchar(500),
+    github_url varchar(500),
+    demo_url varchar(500),
+    display_order integer,
+    is_featured boolean,
+    status varchar(50),
+    version bigint default 0,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table experiences (
+    id bigint generated by default as identity,
+    title varchar(255) not null,
+    company varchar(255) not null,
+    start_date varchar(100),
+    end_date varchar(100),
+    description text,
+    technologies varchar(500),
+    company_url varchar(500),
+    display_order integer,
+    status varchar(50),
+    version bigint default 0,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
@@ -0,0 +1,6 @@
+-- "if not exists": databases baselined from ddl-auto=update may already have this table
+create table if not exists seed_markers (
+    id varchar(100) not null,
+    applied_at timestamp(6),
+    primary key (id)
+);
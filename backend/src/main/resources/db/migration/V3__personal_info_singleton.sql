@@ -0,0 +1,5 @@
+-- Personal info becomes a single row under id 1 with an optimistic-lock version.
+-- Keeps the oldest row, which is the one reads used to pick, and drops duplicates.
+alter table personal_info add column if not exists version bigint default 0;
+delete from personal_info where id <> (select min(id) from personal_info);
+update personal_info set id = 1;
@@ -0,0 +1,9 @@
+-- "if not exists": databases baselined from ddl-auto=update may already have this table
+create table if not exists project_stats (
+    project_id bigint not null,
+    views bigint not null,
+    github_clicks bigint not null,
+    demo_clicks bigint not null,
+    updated_at timestamp(6),
+    primary key (project_id)
+);
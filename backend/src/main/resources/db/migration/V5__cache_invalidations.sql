@@ -0,0 +1,9 @@
+-- "if not exists": databases baselined from ddl-auto=update may already have this table
+create table if not exists cache_invalidations (
+    id bigint generated by default as identity,
+    node_id varchar(36) not null,
+    section varchar(50) not null,
+    entity_ids varchar(2000) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
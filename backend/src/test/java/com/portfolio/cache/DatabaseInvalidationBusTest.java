@@ -0,0 +1,128 @@
+package com.portfolio.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class DatabaseInvalidationBusTest {
+
+    private static final long GAP_TIMEOUT = 200;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private PortfolioSnapshotHolder snapshotHolder;
+    private DatabaseInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        try (Connection connection = database.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V5__cache_invalidations.sql"));
+        }
+        jdbcTemplate = new JdbcTemplate(database);
+        snapshotHolder = mock(PortfolioSnapshotHolder.class);
+        bus = startBus();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+        database.shutdown();
+    }
+
+    @Test
+    void deliversChangesFromOtherNodesOnly() {
+        bus.publish(ContentSection.PROJECTS, Set.of(1L));
+        insert(2, "PROJECTS", "3,4");
+        insert(3, "PERSONAL_INFO", "");
+
+        bus.poll();
+
+        verify(snapshotHolder).invalidate(ContentSection.PROJECTS, Set.of(3L, 4L));
+        verify(snapshotHolder).invalidate(ContentSection.PERSONAL_INFO, Set.of());
+        verifyNoMoreInteractions(snapshotHolder);
+    }
+
+    @Test
+    void rowCommittedBelowOneAlreadyReadIsStillDelivered() {
+        insert(1, "PROJECTS", "1");
+        insert(3, "PROJECTS", "3");
+        bus.poll();
+
+        // Id 2 was taken first but committed after 3 was read
+        insert(2, "EXPERIENCES", "2");
+        bus.poll();
+        bus.poll();
+
+        verify(snapshotHolder).invalidate(ContentSection.PROJECTS, Set.of(1L));
+        verify(snapshotHolder).invalidate(ContentSection.PROJECTS, Set.of(3L));
+        verify(snapshotHolder).invalidate(ContentSection.EXPERIENCES, Set.of(2L));
+        verifyNoMoreInteractions(snapshotHolder);
+    }
+
+    @Test
+    void gapOlderThanTheTimeoutIsSkipped() throws Exception {
+        insert(1, "PROJECTS", "1");
+        insert(3, "PROJECTS", "3");
+        bus.poll();
+        Thread.sleep(GAP_TIMEOUT * 2);
+        bus.poll();
+
+        // Whatever held id 2 rolled back as far as this node is concerned
+        insert(2, "EXPERIENCES", "2");
+        insert(4, "PROJECTS", "4");
+        bus.poll();
+
+        verify(snapshotHolder, never()).invalidate(ContentSection.EXPERIENCES, Set.of(2L));
+        verify(snapshotHolder).invalidate(ContentSection.PROJECTS, Set.of(4L));
+    }
+
+    @Test
+    void rowsFromBeforeStartAndUnknownSectionsAreIgnored() {
+        bus.shutdown();
+        insert(1, "PROJECTS", "1");
+        bus = startBus();
+        insert(2, "TESTIMONIALS", "");
+
+        bus.poll();
+
+        verify(snapshotHolder, never()).invalidate(any(), anySet());
+    }
+
+    // Polled by hand; the scheduled poll never comes within a test
+    private DatabaseInvalidationBus startBus() {
+        DatabaseInvalidationBus bus = new DatabaseInvalidationBus(TimeUnit.HOURS.toMillis(1), GAP_TIMEOUT,
+                TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(bus, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(bus, "snapshotHolder", snapshotHolder);
+        ReflectionTestUtils.setField(bus, "meterRegistry", new SimpleMeterRegistry());
+        bus.start();
+        return bus;
+    }
+
+    private void insert(long id, String section, String entityIds) {
+        jdbcTemplate.update("insert into cache_invalidations (id, node_id, section, entity_ids, created_at) "
+                + "values (?, 'other-node', ?, ?, ?)", id, section, entityIds, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
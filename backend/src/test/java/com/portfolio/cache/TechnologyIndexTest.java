@@ -0,0 +1,79 @@
+package com.portfolio.cache;
+
+import com.portfolio.model.Project;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TechnologyIndexTest {
+
+    @Test
+    void matchesAllOrAnyTagIgnoringCaseAndWhitespace() {
+        TechnologyIndex index = TechnologyIndex.of(List.of(
+                project(1L, "Java, Spring"),
+                project(2L, "java,React"),
+                project(3L, " react ")));
+
+        assertThat(index.match(List.of("JAVA", "spring"), true)).containsExactly(1L);
+        assertThat(index.match(List.of("spring", "react"), false)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.match(List.of("kotlin"), false)).isEmpty();
+    }
+
+    @Test
+    void numbersLargeIdsDensely() {
+        TechnologyIndex index = TechnologyIndex.of(List.of(project(Long.MAX_VALUE, "go")));
+
+        assertThat(index.match(List.of("go"), true)).containsExactly(Long.MAX_VALUE);
+    }
+
+    @Test
+    void updateClearsTagsTheIndexHoldsEvenIfTheSnapshotAlreadyHadTheNewOnes() {
+        TechnologyIndex index = TechnologyIndex.of(List.of(project(1L, "java")));
+        Project changed = project(1L, "rust");
+
+        // The reload that brought "rust" into the snapshot was triggered by another row, so the change
+        // of project 1 arrives with before == after
+        TechnologyIndex updated = index.update(Set.of(1L), Map.of(1L, changed));
+
+        assertThat(updated.match(List.of("java"), false)).isEmpty();
+        assertThat(updated.match(List.of("rust"), false)).containsExactly(1L);
+        assertThat(index.match(List.of("java"), false)).containsExactly(1L);
+    }
+
+    @Test
+    void updateAddsNewProjectsAndRemovesDeletedOnes() {
+        TechnologyIndex index = TechnologyIndex.of(List.of(project(1L, "java"), project(2L, "java")));
+
+        TechnologyIndex updated = index.update(Set.of(2L, 3L), Map.of(1L, project(1L, "java"), 3L, project(3L, "java")));
+
+        assertThat(updated.match(List.of("java"), true)).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void snapshotDropsStaleTagsOnceTheChangeOfARowAlreadyLoadedArrives() {
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(1, List.of(project(1L, "java"), project(2L, "go")),
+                List.of(), null);
+
+        // Project 2 changed, and the reload also read project 1's newer committed row
+        snapshot = snapshot.withProjects(List.of(project(1L, "rust"), project(2L, "go, java")), Set.of(2L));
+        // Then project 1's own change arrives; the snapshot already holds its new tags
+        snapshot = snapshot.withProjects(List.of(project(1L, "rust"), project(2L, "go, java")), Set.of(1L));
+
+        assertThat(snapshot.findProjectsByTechnologies(List.of("java"), true))
+                .extracting(Project::getId).containsExactly(2L);
+        assertThat(snapshot.findProjectsByTechnologies(List.of("rust"), true))
+                .extracting(Project::getId).containsExactly(1L);
+    }
+
+    private static Project project(Long id, String technologies) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Project " + id);
+        project.setTechnologies(technologies);
+        return project;
+    }
+}
@@ -0,0 +1,78 @@
+package com.portfolio.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MergePatchResponsesTest {
+
+    @Test
+    void unconditionalPatchStillSendsTheNewVersion() {
+        AtomicReference<Long> expected = new AtomicReference<>(-1L);
+
+        ResponseEntity<?> response = MergePatchResponses.of(null, version -> {
+            expected.set(version);
+            return 7L;
+        });
+
+        assertThat(expected.get()).isNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"7\"");
+    }
+
+    @Test
+    void ifMatchIsPassedAsTheExpectedVersion() {
+        AtomicReference<Long> expected = new AtomicReference<>();
+
+        ResponseEntity<?> response = MergePatchResponses.of("W/\"3\"", version -> {
+            expected.set(version);
+            return version + 1;
+        });
+
+        assertThat(expected.get()).isEqualTo(3L);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    void wildcardIfMatchIsUnconditional() {
+        AtomicReference<Long> expected = new AtomicReference<>(-1L);
+
+        MergePatchResponses.of("*", version -> {
+            expected.set(version);
+            return 1L;
+        });
+
+        assertThat(expected.get()).isNull();
+    }
+
+    @Test
+    void staleVersionIsPreconditionFailed() {
+        ResponseEntity<?> response = MergePatchResponses.of("\"2\"", version -> {
+            throw new OptimisticLockingFailureException("Project 1 is no longer at version 2");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+
+    @Test
+    void missingEntityIsNotFound() {
+        ResponseEntity<?> response = MergePatchResponses.of(null, version -> null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void unparsableIfMatchIsBadRequestWithoutApplyingThePatch() {
+        ResponseEntity<?> response = MergePatchResponses.of("\"a\", \"b\"", version -> {
+            throw new AssertionError("patch applied");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
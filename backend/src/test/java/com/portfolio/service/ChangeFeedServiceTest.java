@@ -0,0 +1,211 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.cache.ContentSection;
+import com.portfolio.cache.PortfolioSnapshot;
+import com.portfolio.cache.SnapshotChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeFeedServiceTest {
+
+    private static final Pattern ID = Pattern.compile("id:(\\S+)");
+
+    private ChangeFeedService changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        changeFeed = new ChangeFeedService(TimeUnit.HOURS.toMillis(1));
+        setUp(changeFeed);
+    }
+
+    private static void setUp(ChangeFeedService changeFeed) {
+        ReflectionTestUtils.setField(changeFeed, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(changeFeed, "timeout", 0L);
+        ReflectionTestUtils.setField(changeFeed, "replaySize", 3);
+        ReflectionTestUtils.setField(changeFeed, "retry", 3000L);
+        ReflectionTestUtils.setField(changeFeed, "queueSize", 4);
+        ReflectionTestUtils.setField(changeFeed, "sendTimeout", 10000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeed.shutdown();
+    }
+
+    @Test
+    void resumesFromLastEventIdWithBufferedEvents() throws Exception {
+        RecordingEmitter first = subscribe(null);
+        assertThat(first.next()).contains("connected");
+        publish(1);
+        publish(2);
+        String firstId = idOf(first.next());
+        publish(3);
+
+        RecordingEmitter resumed = subscribe(firstId);
+
+        assertThat(resumed.next()).contains("\"version\":2");
+        assertThat(resumed.next()).contains("\"version\":3");
+        assertThat(resumed.poll()).isNull();
+    }
+
+    @Test
+    void caughtUpClientOnlyGetsNewEvents() throws Exception {
+        RecordingEmitter first = subscribe(null);
+        first.next();
+        publish(1);
+        String lastId = idOf(first.next());
+
+        RecordingEmitter resumed = subscribe(lastId);
+        assertThat(resumed.next()).contains("connected");
+        publish(2);
+
+        assertThat(resumed.next()).contains("\"version\":2");
+    }
+
+    @Test
+    void resetsWhenTheIdIsOlderThanTheReplayBuffer() throws Exception {
+        RecordingEmitter first = subscribe(null);
+        first.next();
+        publish(1);
+        String oldId = idOf(first.next());
+        for (int version = 2; version <= 5; version++) {
+            publish(version);
+        }
+
+        assertThat(subscribe(oldId).next()).contains("event:" + ChangeFeedService.RESET_EVENT);
+    }
+
+    @Test
+    void resetsForAnIdIssuedByAnotherInstanceOrBeforeARestart() throws Exception {
+        RecordingEmitter first = subscribe(null);
+        first.next();
+        publish(1);
+        String id = idOf(first.next());
+        String sequence = id.substring(id.indexOf('-') + 1);
+
+        // Same sequence number, but from an instance with another epoch and possibly a newer clock
+        assertThat(subscribe("0000beef-" + sequence).next()).contains("event:" + ChangeFeedService.RESET_EVENT);
+        assertThat(subscribe("99999999999").next()).contains("event:" + ChangeFeedService.RESET_EVENT);
+    }
+
+    @Test
+    void slowSubscriberDoesNotDelayOthersAndIsDroppedWhenItsQueueFills() throws Exception {
+        RecordingEmitter slow = subscribe(null);
+        slow.next();
+        RecordingEmitter fast = subscribe(null);
+        fast.next();
+        slow.block();
+
+        publish(1);
+        assertThat(slow.awaitBlocked()).isTrue();
+        assertThat(fast.next()).contains("\"version\":1");
+        for (int version = 2; version <= 6; version++) {
+            publish(version);
+            assertThat(fast.next()).contains("\"version\":" + version);
+        }
+
+        slow.unblock();
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(changeFeed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscriberStuckInAWriteIsDroppedAfterTheSendTimeout() throws Exception {
+        changeFeed.shutdown();
+        changeFeed = new ChangeFeedService(50);
+        setUp(changeFeed);
+        ReflectionTestUtils.setField(changeFeed, "sendTimeout", 100L);
+        RecordingEmitter stuck = subscribe(null);
+        stuck.next();
+        stuck.block();
+
+        publish(1);
+
+        assertThat(stuck.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(changeFeed.getSubscriberCount()).isZero();
+        stuck.unblock();
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        changeFeed.subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    private void publish(long version) {
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(version, List.of(), List.of(), null);
+        changeFeed.onSnapshotChanged(new SnapshotChangedEvent(null, snapshot, ContentSection.PROJECTS, Set.of()));
+    }
+
+    private static String idOf(String frame) {
+        Matcher matcher = ID.matcher(frame);
+        assertThat(matcher.find()).as("id in %s", frame).isTrue();
+        return matcher.group(1);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            CountDownLatch current = gate;
+            if (current != null) {
+                blocked.countDown();
+                try {
+                    current.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        String next() throws InterruptedException {
+            String frame = frames.poll(5, TimeUnit.SECONDS);
+            assertThat(frame).as("frame within 5 s").isNotNull();
+            return frame;
+        }
+
+        String poll() throws InterruptedException {
+            return frames.poll(200, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.model.Project;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({MergePatchExecutor.class, ObjectMapper.class})
+class MergePatchExecutorTest {
+
+    private static final Set<String> PATCHABLE = Set.of("title", "technologies", "displayOrder");
+    private static final Set<String> REQUIRED = Set.of("title");
+
+    @Autowired
+    private MergePatchExecutor executor;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setTitle("Original");
+        project.setTechnologies("java");
+        entityManager.persist(project);
+        entityManager.flush();
+        id = project.getId();
+        entityManager.clear();
+    }
+
+    @Test
+    void returnsTheVersionItWroteWithOrWithoutAnExpectedVersion() {
+        Long first = executor.update(Project.class, id, null, Map.of("title", "First"));
+        Long second = executor.update(Project.class, id, first, Map.of("title", "Second"));
+
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(entityManager.find(Project.class, id).getTitle()).isEqualTo("Second");
+    }
+
+    @Test
+    void staleExpectedVersionUpdatesNothing() {
+        Long current = executor.update(Project.class, id, null, Map.of("title", "First"));
+
+        assertThat(executor.update(Project.class, id, current - 1, Map.of("title", "Lost"))).isNull();
+        assertThat(entityManager.find(Project.class, id).getTitle()).isEqualTo("First");
+    }
+
+    @Test
+    void missingEntityUpdatesNothing() {
+        assertThat(executor.update(Project.class, id + 1000, null, Map.of("title", "None"))).isNull();
+    }
+
+    @Test
+    void readPatchKeepsNullsForOptionalFieldsAndRejectsTheRest() throws Exception {
+        Map<String, Object> values = executor.readPatch(Project.class,
+                objectMapper.readTree("{\"technologies\": null, \"displayOrder\": 3}"), PATCHABLE, REQUIRED);
+
+        assertThat(values).containsEntry("displayOrder", 3).containsKey("technologies");
+        assertThat(values.get("technologies")).isNull();
+        assertThatThrownBy(() -> executor.readPatch(Project.class, objectMapper.readTree("{\"title\": null}"),
+                PATCHABLE, REQUIRED)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> executor.readPatch(Project.class, objectMapper.readTree("{\"version\": 9}"),
+                PATCHABLE, REQUIRED)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -16,7 +16,12 @@ const Login = () => {
       await login(username, password);
       navigate('/admin');
     } catch (err) {
-      setError('Invalid username or password');
+      if (err.response?.status === 429) {
+        const retryAfter = err.response.headers['retry-after'];
+        setError(`Too many login attempts. Try again in ${retryAfter || 'a few'} seconds.`);
+      } else {
+        setError('Invalid username or password');
+      }
     }
   };
 
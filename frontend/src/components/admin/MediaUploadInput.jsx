@@ -0,0 +1,34 @@
+import React, { useState } from 'react';
+import mediaService from '../../services/mediaService';
+
+// Uploads the chosen file and reports its same-origin URL
+const MediaUploadInput = ({ accept, onUploaded }) => {
+  const [uploading, setUploading] = useState(false);
+  const [error, setError] = useState('');
+
+  const handleChange = async (e) => {
+    const file = e.target.files[0];
+    if (!file) return;
+    setUploading(true);
+    setError('');
+    try {
+      const response = await mediaService.upload(file);
+      onUploaded(response.data.url);
+    } catch (err) {
+      setError(err.response?.data?.message || 'Upload failed');
+    } finally {
+      setUploading(false);
+      e.target.value = '';
+    }
+  };
+
+  return (
+    <div className="media-upload">
+      <input type="file" accept={accept} onChange={handleChange} disabled={uploading} />
+      {uploading && <span className="media-upload-status">Uploading...</span>}
+      {error && <span className="media-upload-error">{error}</span>}
+    </div>
+  );
+};
+
+export default MediaUploadInput;
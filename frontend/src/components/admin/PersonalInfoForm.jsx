@@ -1,4 +1,5 @@
 import React, { useState, useEffect } from 'react';
+import MediaUploadInput from './MediaUploadInput';
 import './ProjectForm.css';
 
 const PersonalInfoForm = ({ personalInfo, onSubmit, onCancel }) => {
@@ -12,7 +13,8 @@ const PersonalInfoForm = ({ personalInfo, onSubmit, onCancel }) => {
     linkedinUrl: '',
     githubUrl: '',
     profileImageUrl: '',
-    resumeUrl: ''
+    resumeUrl: '',
+    version: null
   });
 
   useEffect(() => {
@@ -27,7 +29,8 @@ const PersonalInfoForm = ({ personalInfo, onSubmit, onCancel }) => {
         linkedinUrl: personalInfo.linkedinUrl || '',
         githubUrl: personalInfo.githubUrl || '',
         profileImageUrl: personalInfo.profileImageUrl || '',
-        resumeUrl: personalInfo.resumeUrl || ''
+        resumeUrl: personalInfo.resumeUrl || '',
+        version: personalInfo.version ?? null
       });
     }
   }, [personalInfo]);
@@ -146,12 +149,16 @@ const PersonalInfoForm = ({ personalInfo, onSubmit, onCancel }) => {
         <div className="form-group">
           <label>Profile Image URL</label>
           <input
-            type="url"
+            type="text"
             name="profileImageUrl"
             value={formData.profileImageUrl}
             onChange={handleChange}
             placeholder="https://example.com/image.jpg"
           />
+          <MediaUploadInput
+            accept="image/jpeg,image/png,image/gif,image/webp"
+            onUploaded={(url) => setFormData(prev => ({ ...prev, profileImageUrl: url }))}
+          />
         </div>
 
         <div className="form-group">
@@ -163,6 +170,10 @@ const PersonalInfoForm = ({ personalInfo, onSubmit, onCancel }) => {
             onChange={handleChange}
             placeholder="/resume.pdf or https://example.com/resume.pdf"
           />
+          <MediaUploadInput
+            accept="application/pdf"
+            onUploaded={(url) => setFormData(prev => ({ ...prev, resumeUrl: url }))}
+          />
         </div>
 
         <div className="form-actions">
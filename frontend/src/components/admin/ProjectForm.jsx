@@ -1,4 +1,5 @@
 import React, { useState, useEffect } from 'react';
+import MediaUploadInput from './MediaUploadInput';
 import './ProjectForm.css';
 
 const ProjectForm = ({ project, onSubmit, onCancel }) => {
@@ -87,11 +88,15 @@ const ProjectForm = ({ project, onSubmit, onCancel }) => {
         <div className="form-group">
           <label>Image URL</label>
           <input
-            type="url"
+            type="text"
             name="imageUrl"
             value={formData.imageUrl}
             onChange={handleChange}
           />
+          <MediaUploadInput
+            accept="image/jpeg,image/png,image/gif,image/webp"
+            onUploaded={(url) => setFormData(prev => ({ ...prev, imageUrl: url }))}
+          />
         </div>
 
         <div className="form-group">
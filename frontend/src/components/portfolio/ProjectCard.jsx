@@ -1,12 +1,21 @@
 import React from 'react';
 import { FaGithub, FaExternalLinkAlt } from 'react-icons/fa';
+import mediaService from '../../services/mediaService';
+import projectService from '../../services/projectService';
 import './ProjectCard.css';
 
 const ProjectCard = ({ project }) => {
   return (
     <div className="project-card">
       {project.imageUrl && (
-        <img src={project.imageUrl} alt={project.title} className="project-image" />
+        <img
+          src={project.imageUrl}
+          srcSet={mediaService.srcSet(project.imageUrl)}
+          sizes="(max-width: 768px) 100vw, 400px"
+          alt={project.title}
+          className="project-image"
+          loading="lazy"
+        />
       )}
       <div className="project-content">
         <h3>{project.title}</h3>
@@ -18,17 +27,17 @@ const ProjectCard = ({ project }) => {
         </div>
         <div className="project-links">
           {project.githubUrl && (
-            <a href={project.githubUrl} target="_blank" rel="noopener noreferrer" className="project-link">
+            <a href={project.githubUrl} onClick={() => projectService.trackClick(project.id, 'github')} target="_blank" rel="noopener noreferrer" className="project-link">
               <FaGithub /> Code
             </a>
           )}
           {project.demoUrl && (
-            <a href={project.demoUrl} target="_blank" rel="noopener noreferrer" className="project-link">
+            <a href={project.demoUrl} onClick={() => projectService.trackClick(project.id, 'demo')} target="_blank" rel="noopener noreferrer" className="project-link">
               <FaExternalLinkAlt /> Demo
             </a>
           )}
           {project.projectUrl && !project.demoUrl && (
-            <a href={project.projectUrl} target="_blank" rel="noopener noreferrer" className="project-link">
+            <a href={project.projectUrl} onClick={() => projectService.trackClick(project.id, 'demo')} target="_blank" rel="noopener noreferrer" className="project-link">
               <FaExternalLinkAlt /> Visit
             </a>
           )}
@@ -152,7 +152,12 @@ const AdminPanel = () => {
       alert('Personal information updated successfully!');
     } catch (error) {
       console.error('Error saving personal info:', error);
-      alert('Failed to save personal information');
+      if (error.response?.status === 409) {
+        alert('Personal information was changed elsewhere. The latest version has been loaded; please reapply your edits.');
+        loadPersonalInfo();
+      } else {
+        alert('Failed to save personal information');
+      }
     }
   };
 
@@ -1,7 +1,6 @@
 import React, { useState, useEffect } from 'react';
-import personalInfoService from '../services/personalInfoService';
+import portfolioService from '../services/portfolioService';
 import projectService from '../services/projectService';
-import experienceService from '../services/experienceService';
 import Loading from '../components/common/Loading';
 
 const Home = () => {
@@ -13,6 +12,7 @@ const Home = () => {
 
   useEffect(() => {
     loadData();
+    return portfolioService.subscribeToChanges(() => loadData());
   }, []);
 
   useEffect(() => {
@@ -37,14 +37,11 @@ const Home = () => {
 
   const loadData = async () => {
     try {
-      const [infoResponse, projectsResponse, experiencesResponse] = await Promise.all([
-        personalInfoService.getPersonalInfo(),
-        projectService.getFeaturedProjects(),
-        experienceService.getAllExperiences()
-      ]);
-      setPersonalInfo(infoResponse.data);
-      setProjects(projectsResponse.data);
-      setExperiences(experiencesResponse.data);
+      const { data } = await portfolioService.getPortfolio();
+      const featuredIds = new Set(data.featuredProjectIds);
+      setPersonalInfo(data.personalInfo);
+      setProjects(data.projects.filter((project) => featuredIds.has(project.id)));
+      setExperiences(data.experiences);
     } catch (error) {
       console.error('Error loading data:', error);
       // Set fallback data if API fails
@@ -362,6 +359,7 @@ const Home = () => {
                         {project.githubUrl && (
                           <a
                             href={project.githubUrl}
+                            onClick={() => projectService.trackClick(project.id, 'github')}
                             target="_blank"
                             rel="noopener noreferrer"
                             className="inline-flex items-center gap-2 text-sm font-medium text-slate-300 hover:text-teal-accent transition-colors"
@@ -375,6 +373,7 @@ const Home = () => {
                         {(project.demoUrl || project.projectUrl) && (
                           <a
                             href={project.demoUrl || project.projectUrl}
+                            onClick={() => projectService.trackClick(project.id, 'demo')}
                             target="_blank"
                             rel="noopener noreferrer"
                             className="inline-flex items-center gap-2 text-sm font-medium text-slate-300 hover:text-teal-accent transition-colors"
@@ -5,6 +5,8 @@ import Loading from '../components/common/Loading';
 
 const ProjectsArchive = () => {
   const [projects, setProjects] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
@@ -13,8 +15,9 @@ const ProjectsArchive = () => {
 
   const loadAllProjects = async () => {
     try {
-      const response = await projectService.getAllProjects();
-      setProjects(response.data);
+      const response = await projectService.getProjectsPage();
+      setProjects(response.data.items);
+      setNextCursor(response.data.nextCursor);
     } catch (error) {
       console.error('Error loading projects:', error);
       // Set fallback sample projects if API fails
@@ -42,6 +45,19 @@ const ProjectsArchive = () => {
     }
   };
 
+  const loadMoreProjects = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await projectService.getProjectsPage(nextCursor);
+      setProjects((loaded) => [...loaded, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (error) {
+      console.error('Error loading more projects:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   if (loading) return <Loading />;
 
   return (
@@ -168,6 +184,7 @@ const ProjectsArchive = () => {
                         {project.githubUrl && (
                           <a
                             href={project.githubUrl}
+                            onClick={() => projectService.trackClick(project.id, 'github')}
                             target="_blank"
                             rel="noopener noreferrer"
                             className="text-slate-400 hover:text-teal-accent transition-colors"
@@ -181,6 +198,7 @@ const ProjectsArchive = () => {
                         {(project.demoUrl || project.projectUrl) && (
                           <a
                             href={project.demoUrl || project.projectUrl}
+                            onClick={() => projectService.trackClick(project.id, 'demo')}
                             target="_blank"
                             rel="noopener noreferrer"
                             className="text-slate-400 hover:text-teal-accent transition-colors"
@@ -242,6 +260,7 @@ const ProjectsArchive = () => {
                     {project.githubUrl && (
                       <a
                         href={project.githubUrl}
+                        onClick={() => projectService.trackClick(project.id, 'github')}
                         target="_blank"
                         rel="noopener noreferrer"
                         className="inline-flex items-center gap-2 text-sm font-medium text-slate-300 hover:text-teal-accent transition-colors"
@@ -255,6 +274,7 @@ const ProjectsArchive = () => {
                     {(project.demoUrl || project.projectUrl) && (
                       <a
                         href={project.demoUrl || project.projectUrl}
+                        onClick={() => projectService.trackClick(project.id, 'demo')}
                         target="_blank"
                         rel="noopener noreferrer"
                         className="inline-flex items-center gap-2 text-sm font-medium text-slate-300 hover:text-teal-accent transition-colors"
@@ -273,10 +293,25 @@ const ProjectsArchive = () => {
           </div>
         )}
 
+        {nextCursor && (
+          <div className="mt-8 text-center">
+            <button
+              onClick={loadMoreProjects}
+              disabled={loadingMore}
+              className="px-6 py-3 font-mono text-sm font-medium
+                       text-slate-300 hover:text-teal-accent
+                       border-2 border-slate-600 hover:border-teal-accent
+                       rounded-sm transition-all duration-150 disabled:opacity-50"
+            >
+              {loadingMore ? 'Loading...' : 'Load More'}
+            </button>
+          </div>
+        )}
+
         {/* Footer */}
         <footer className="mt-16 pt-12 border-t-2 border-slate-700 text-center">
           <p className="text-sm text-slate-500">
-            Showing all {projects.length} project{projects.length !== 1 ? 's' : ''}
+            Showing {nextCursor ? '' : 'all '}{projects.length} project{projects.length !== 1 ? 's' : ''}
           </p>
         </footer>
       </main>
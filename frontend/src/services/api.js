@@ -12,8 +12,9 @@ const api = axios.create({
 
 api.interceptors.request.use(
   (config) => {
+    // Only admin routes are authenticated; public reads skip the header so they stay cacheable
     const token = localStorage.getItem('token');
-    if (token) {
+    if (token && config.url && config.url.startsWith('/admin')) {
       config.headers.Authorization = `Bearer ${token}`;
     }
     return config;
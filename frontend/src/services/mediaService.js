@@ -0,0 +1,22 @@
+import api from './api';
+
+// Keep in sync with media.variants.widths in the backend
+const VARIANT_WIDTHS = [320, 640, 1280];
+const RESIZABLE_MEDIA = /^(.*\/api\/public\/media\/[0-9a-f]{64})\.(jpg|png)$/;
+
+const mediaService = {
+  upload: (file) => {
+    const formData = new FormData();
+    formData.append('file', file);
+    return api.post('/admin/media', formData);
+  },
+
+  // srcset of the resized variants for uploaded JPEG/PNG images, undefined for any other URL
+  srcSet: (url) => {
+    const match = url && url.match(RESIZABLE_MEDIA);
+    if (!match) return undefined;
+    return VARIANT_WIDTHS.map((width) => `${match[1]}-${width}w.${match[2]} ${width}w`).join(', ');
+  },
+};
+
+export default mediaService;
@@ -0,0 +1,19 @@
+import api from './api';
+
+const portfolioService = {
+  getPortfolio: () => api.get('/public/portfolio'),
+
+  // Calls onChange whenever published content changes; returns a function that unsubscribes.
+  // EventSource reconnects on its own and resumes from the last event it saw.
+  subscribeToChanges: (onChange) => {
+    if (typeof EventSource === 'undefined') {
+      return () => {};
+    }
+    const source = new EventSource(`${api.defaults.baseURL}/public/changes`);
+    source.addEventListener('change', (event) => onChange(JSON.parse(event.data)));
+    source.addEventListener('reset', () => onChange(null));
+    return () => source.close();
+  },
+};
+
+export default portfolioService;
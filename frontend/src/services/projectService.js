@@ -4,9 +4,20 @@ const projectService = {
   getAllProjects: () => api.get('/public/projects'),
   getProjectById: (id) => api.get(`/public/projects/${id}`),
   getFeaturedProjects: () => api.get('/public/projects/featured'),
+  getProjectsPage: (cursor, limit = 20) =>
+    api.get('/public/projects/page', { params: { cursor, limit } }),
   createProject: (project) => api.post('/admin/projects', project),
   updateProject: (id, project) => api.put(`/admin/projects/${id}`, project),
   deleteProject: (id) => api.delete(`/admin/projects/${id}`),
+  getProjectStats: () => api.get('/admin/projects/stats'),
+  // Fire-and-forget click count; sendBeacon still delivers while the page navigates away
+  trackClick: (id, link) => {
+    if (id == null) return;
+    const url = `${api.defaults.baseURL}/public/projects/${id}/clicks?link=${link}`;
+    if (!navigator.sendBeacon || !navigator.sendBeacon(url)) {
+      api.post(`/public/projects/${id}/clicks`, null, { params: { link } }).catch(() => {});
+    }
+  },
 };
 
 export default projectService;
\ No newline at end of file
@@ -136,6 +136,7 @@ echo -e "${BLUE}[4/7] 📁 Creating deployment directories...${NC}"
 
 sudo mkdir -p /var/www/portfolio/backend
 sudo mkdir -p /var/www/portfolio/frontend
+sudo mkdir -p /var/www/portfolio/media
 sudo chown -R www-data:www-data /var/www/portfolio
 sudo chmod -R 755 /var/www/portfolio
 
@@ -239,6 +240,9 @@ server {
     root /var/www/portfolio/frontend;
     index index.html;
 
+    # Admin media uploads (matches spring.servlet.multipart.max-request-size)
+    client_max_body_size 10m;
+
     # Gzip compression
     gzip on;
     gzip_vary on;
@@ -263,6 +267,24 @@ server {
         proxy_cache_bypass \$http_upgrade;
     }
 
+    # Change feed (Server-Sent Events): stream unbuffered and keep idle connections open
+    location = /api/public/changes {
+        proxy_pass http://localhost:8080;
+        proxy_http_version 1.1;
+        proxy_set_header Connection '';
+        proxy_set_header Host \$host;
+        proxy_buffering off;
+        proxy_cache off;
+        proxy_read_timeout 1h;
+    }
+
+    # Uploaded media; ^~ stops the static asset rule below from catching these image URLs
+    location ^~ /api/public/media/ {
+        proxy_pass http://localhost:8080;
+        proxy_http_version 1.1;
+        proxy_set_header Host \$host;
+    }
+
     # Security headers
     add_header X-Frame-Options "SAMEORIGIN" always;
     add_header X-Content-Type-Options "nosniff" always;